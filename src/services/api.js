@@ -130,11 +130,71 @@ class ApiService {
     return this.request(`/sprints/${sprintId}`);
   }
 
+  // Story counts per status, total/committed/completed points and progress of one sprint
+  getSprintRollup(sprintId) {
+    return this.request(`/sprints/${sprintId}/rollup`);
+  }
+
+  // Burndown/burnup series: points[] of { capturedAt, totalPoints, completedPoints, remainingPoints, ... }
+  getSprintBurndown(sprintId, maxPoints) {
+    const query = maxPoints ? `?maxPoints=${maxPoints}` : '';
+    return this.request(`/sprints/${sprintId}/burndown${query}`);
+  }
+
   getCurrentSprint() {
     const companyId = this.getCompanyId();
     return this.request(`/sprints/current?companyId=${companyId}`);
   }
 
+  // Sprint board changes pushed by the server, instead of polling getCurrentSprint.
+  // EventSource cannot send the Authorization header, so the stream is read with fetch.
+  // onClose runs when the server ends the stream (timeout, or a slow client being dropped);
+  // reload the board and subscribe again. Returns a function that unsubscribes.
+  subscribeToSprintEvents(sprintId, onEvent, onClose) {
+    const companyId = this.getCompanyId();
+    const token = localStorage.getItem('authToken');
+    const controller = new AbortController();
+    const sprintQuery = sprintId ? `&sprintId=${sprintId}` : '';
+
+    fetch(`${this.baseURL}/sprints/events?companyId=${companyId}${sprintQuery}`, {
+      headers: {
+        Accept: 'text/event-stream',
+        ...(token && { Authorization: `Bearer ${token}` }),
+      },
+      signal: controller.signal,
+    })
+      .then(async (response) => {
+        if (!response.ok) {
+          throw new Error(`API Error: ${response.status}`);
+        }
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value;
+          const messages = buffer.split('\n\n');
+          buffer = messages.pop();
+          messages.forEach((message) => {
+            const data = message
+              .split('\n')
+              .filter((line) => line.startsWith('data:'))
+              .map((line) => line.slice(5))
+              .join('\n');
+            if (data) onEvent(JSON.parse(data));
+          });
+        }
+      })
+      .catch((error) => {
+        if (error.name !== 'AbortError') console.error('Sprint event stream failed:', error);
+      })
+      .finally(() => {
+        if (!controller.signal.aborted && onClose) onClose();
+      });
+
+    return () => controller.abort();
+  }
+
   createSprint(sprintData) {
     return this.request('/sprints', {
       method: 'POST',
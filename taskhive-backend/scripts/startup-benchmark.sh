@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Boot-time comparison of the packaging variants. Each run starts the JVM, refreshes the
+# application context (Flyway, Hibernate, Tomcat) against the configured database and exits
+# (spring.context.exit=onRefresh); the wall-clock time of the whole process is recorded.
+#
+#   mvn -Pcds package -DskipTests
+#   scripts/startup-benchmark.sh [runs]
+#
+# Environment: PROFILES (default prod, must match -Dcds.profiles), JAVA_OPTS for extra JVM
+# options such as -Dspring.datasource.url=...
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+PROFILES=${PROFILES:-prod}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+JAR=$(cd target && ls taskhive-backend-*-exec.jar | head -n 1)
+CDS_DIR=target/cds
+# Boots only; no token is ever signed with this key
+export TASKHIVE_TOKEN_KEY_K1=${TASKHIVE_TOKEN_KEY_K1:-startup-benchmark-only-never-signs-tokens}
+
+if [ ! -f "$CDS_DIR/application.jsa" ]; then
+    echo "No CDS archive in $CDS_DIR; build with: mvn -Pcds package -DskipTests" >&2
+    exit 1
+fi
+
+# name|working directory|JVM options
+VARIANTS=(
+    "fat jar|target|"
+    "extracted|$CDS_DIR|"
+    "extracted + AOT|$CDS_DIR|-Dspring.aot.enabled=true"
+    "extracted + AOT + CDS|$CDS_DIR|-Dspring.aot.enabled=true -XX:SharedArchiveFile=application.jsa"
+)
+
+boot_millis() {
+    local dir=$1 options=$2 start end
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    (cd "$dir" && "$JAVA" $options ${JAVA_OPTS:-} -Dspring.profiles.active="$PROFILES" \
+        -Dspring.context.exit=onRefresh -Dlogging.level.root=WARN -jar "$JAR" > /dev/null)
+    end=$(date +%s%N)
+    echo $(( (end - start) / 1000000 ))
+}
+
+printf '%-24s %8s %8s %8s\n' "variant" "min ms" "median" "max ms"
+for variant in "${VARIANTS[@]}"; do
+    IFS='|' read -r name dir options <<< "$variant"
+    # One discarded run warms the OS page cache
+    boot_millis "$dir" "$options" > /dev/null
+    times=()
+    for _ in $(seq "$RUNS"); do
+        times+=("$(boot_millis "$dir" "$options")")
+    done
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+    printf '%-24s %8d %8d %8d\n' "$name" "${sorted[0]}" "${sorted[$(( RUNS / 2 ))]}" "${sorted[$(( RUNS - 1 ))]}"
+done
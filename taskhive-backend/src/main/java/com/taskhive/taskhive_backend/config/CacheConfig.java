@@ -0,0 +1,32 @@
+package com.taskhive.taskhive_backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    public static final String COMPANIES = "companies";
+    public static final String TEAM_IDS_BY_NAME = "teamIdsByName";
+    public static final String ACTIVE_SPRINTS = "activeSprints";
+    
+    @Bean
+    public CacheManager cacheManager(@Value("${taskhive.cache.reference-spec}") String referenceSpec,
+                                     @Value("${taskhive.cache.active-sprint-spec}") String activeSprintSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Stats are recorded so hit/miss counts show up under the actuator cache metrics
+        cacheManager.registerCustomCache(COMPANIES, Caffeine.from(referenceSpec).recordStats().build());
+        cacheManager.registerCustomCache(TEAM_IDS_BY_NAME, Caffeine.from(referenceSpec).recordStats().build());
+        cacheManager.registerCustomCache(ACTIVE_SPRINTS, Caffeine.from(activeSprintSpec).recordStats().build());
+        // Evictions inside a transaction wait for its commit; evicting earlier lets a concurrent
+        // read cache the old row again until the TTL runs out
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -20,13 +20,23 @@ public class DataInitializer implements CommandLineRunner {
     private final SprintRepository sprintRepository;
     private final StoryRepository storyRepository;
     
+    static final String ADMIN_EMAIL = "root";
+    private static final String ADMIN_EMPLOYEE_ID = "EMP001";
+    
     @Override
     public void run(String... args) throws Exception {
-        if (companyRepository.count() == 0) {
+        // Warm boots stop at this one indexed lookup (users.email is unique)
+        if (userRepository.existsByEmail(ADMIN_EMAIL)) {
+            log.debug("Admin user already exists");
+            return;
+        }
+        
+        Company company = companyRepository.findFirstByOrderByIdAsc().orElse(null);
+        if (company == null) {
             initializeMinimalData();
-        } else {
-            // Ensure admin user exists
-            ensureAdminUser();
+        } else if (!userRepository.existsByCompanyIdAndEmployeeId(company.getId(), ADMIN_EMPLOYEE_ID)) {
+            userRepository.save(newAdminUser(company));
+            log.info("Created missing admin user");
         }
     }
     
@@ -40,44 +50,22 @@ public class DataInitializer implements CommandLineRunner {
         company.setMaxUsers(100);
         company = companyRepository.save(company);
         
-        // Create admin user for login
+        userRepository.save(newAdminUser(company));
+        
+        log.info("Initialized minimal data: 1 company, 1 admin user");
+    }
+    
+    private User newAdminUser(Company company) {
         User admin = new User();
         admin.setCompany(company);
-        admin.setEmployeeId("EMP001");
+        admin.setEmployeeId(ADMIN_EMPLOYEE_ID);
         admin.setName("Admin User");
-        admin.setEmail("root");
+        admin.setEmail(ADMIN_EMAIL);
         admin.setPassword("$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2uheWG/igi."); // bcrypt for 'root123'
         admin.setDesignation("Administrator");
         admin.setJobRole(User.JobRole.BE);
         admin.setRole(User.Role.ADMIN);
         admin.setStatus(User.Status.ACTIVE);
-        userRepository.save(admin);
-        
-        log.info("Initialized minimal data: 1 company, 1 admin user");
-    }
-    
-    private void ensureAdminUser() {
-        Company company = companyRepository.findAll().get(0);
-        
-        // Check if admin user exists by email or employeeId
-        boolean adminExists = userRepository.findByEmail("root").isPresent() || 
-                             userRepository.findByCompanyIdAndEmployeeId(company.getId(), "EMP001").isPresent();
-        
-        if (!adminExists) {
-            User admin = new User();
-            admin.setCompany(company);
-            admin.setEmployeeId("EMP001");
-            admin.setName("Admin User");
-            admin.setEmail("root");
-            admin.setPassword("$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2uheWG/igi."); // bcrypt for 'root123'
-            admin.setDesignation("Administrator");
-            admin.setJobRole(User.JobRole.BE);
-            admin.setRole(User.Role.ADMIN);
-            admin.setStatus(User.Status.ACTIVE);
-            userRepository.save(admin);
-            log.info("Created missing admin user");
-        } else {
-            log.info("Admin user already exists");
-        }
+        return admin;
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.taskhive.taskhive_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Caps concurrent API requests at the connection pool size. With virtual threads the servlet
+// container no longer bounds concurrency, so without this requests would queue inside Hikari
+// and time out there instead of being shed here.
+@Slf4j
+public class DatabaseConcurrencyLimiter extends OncePerRequestFilter {
+    
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final Counter rejections;
+    
+    public DatabaseConcurrencyLimiter(int maxConcurrent, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        Gauge.builder("taskhive.db.limiter.available", permits, Semaphore::availablePermits).register(meterRegistry);
+        Gauge.builder("taskhive.db.limiter.waiting", permits, Semaphore::getQueueLength).register(meterRegistry);
+        this.rejections = Counter.builder("taskhive.db.limiter.rejected").register(meterRegistry);
+        log.info("Database concurrency limiter enabled with {} permits", maxConcurrent);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejections.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+    
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // The permit is held by the initial dispatch only
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskhive.taskhive_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// local-replica profile only: the two embedded H2 databases do not replicate, so the primary
+// is copied into the replica every simulated-lag. Replica reads therefore trail writes the way
+// an asynchronous replica does, and the lag monitor sees a realistic heartbeat. Reads are sent
+// to the primary while a copy is loading.
+@Component
+@Profile("local-replica")
+@Slf4j
+public class LocalReplicationSimulator {
+    
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    
+    public LocalReplicationSimulator(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                     @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                     ReplicaLagMonitor replicaLagMonitor) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+    
+    @Scheduled(fixedDelayString = "${taskhive.datasource.replica.simulated-lag:3s}")
+    public void replicate() throws IOException {
+        Path script = Files.createTempFile("taskhive-replica", ".sql");
+        try {
+            primary.execute("SCRIPT TO '" + script + "'");
+            replicaLagMonitor.markDown("loading a copy of the primary");
+            replica.execute("DROP ALL OBJECTS");
+            replica.execute("RUNSCRIPT FROM '" + script + "'");
+            replicaLagMonitor.check();
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+}
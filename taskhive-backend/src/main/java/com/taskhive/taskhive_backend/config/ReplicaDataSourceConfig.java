@@ -0,0 +1,112 @@
+package com.taskhive.taskhive_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Active when taskhive.datasource.replica.url is set. Read-only transactions
+// (@Transactional(readOnly = true), and Spring Data repository reads outside a service
+// transaction) run on the replica; everything else runs on the primary. The lazy proxy defers
+// the choice to the first statement, when the transaction's read-only flag is known, so no
+// routing key has to be threaded through the services.
+@Configuration
+@ConditionalOnProperty("taskhive.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    // Credentials and driver default to the primary's
+    @Bean
+    public HikariDataSource replicaDataSource(
+            @Value("${taskhive.datasource.replica.url}") String url,
+            @Value("${taskhive.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${taskhive.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${taskhive.datasource.replica.driver-class-name:${spring.datasource.driver-class-name:}}") String driverClassName,
+            @Value("${taskhive.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${taskhive.datasource.replica.connection-timeout:2s}") Duration connectionTimeout) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        if (StringUtils.hasText(driverClassName)) {
+            dataSource.setDriverClassName(driverClassName);
+        }
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        // A dead replica should cost a request this long at most before it falls back
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setReadOnly(true);
+        // Start even while the replica is unreachable; reads use the primary until it answers
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+    
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${taskhive.datasource.replica.max-lag:5s}") Duration maxLag,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, maxLag, meterRegistry);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+    
+    // Spring holds the JDBC connection for the whole session by default, which under
+    // open-in-view is the whole request: the first transaction's choice of database would
+    // stick for every later one. Releasing it after each transaction lets each one route.
+    @Bean
+    public HibernatePropertiesCustomizer connectionPerTransactionCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+    
+    // Reads fall back to the primary, so a failing replica must not take the instance out of
+    // rotation: db health checks only the primary, and the replica reports its routing state
+    @Bean
+    public HealthContributor dbHealthContributor(@Qualifier("primaryDataSource") DataSource primaryDataSource) {
+        return new DataSourceHealthIndicator(primaryDataSource);
+    }
+    
+    @Bean
+    public HealthIndicator replicaHealthIndicator(ReplicaLagMonitor replicaLagMonitor) {
+        return () -> Health.up()
+            .withDetail("state", replicaLagMonitor.getState())
+            .withDetail("lagMillis", replicaLagMonitor.getLagMillis())
+            .build();
+    }
+}
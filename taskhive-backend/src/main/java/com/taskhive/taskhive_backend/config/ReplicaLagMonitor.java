@@ -0,0 +1,160 @@
+package com.taskhive.taskhive_backend.config;
+
+import com.taskhive.taskhive_backend.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Decides whether a read may go to the replica. Every check-interval this instance writes a
+// heartbeat row to the primary and reads it back from the replica: the difference is the lag
+// (an upper bound, since it includes up to one interval). The replica is used while it answers
+// and trails by at most max-lag. Committed writes are remembered per user, and that user reads
+// from the primary until the replica has replayed a heartbeat written after the commit.
+// Read-your-writes is per instance; a user whose requests alternate between instances can
+// still see replica data older than their last write for up to max-lag.
+@Slf4j
+public class ReplicaLagMonitor implements TransactionExecutionListener {
+    
+    public enum State { UP, LAGGING, DOWN }
+    
+    private static final String UPDATE_BEAT = "UPDATE replica_heartbeats SET beat_at = ? WHERE instance_id = ?";
+    private static final String INSERT_BEAT = "INSERT INTO replica_heartbeats (instance_id, beat_at) VALUES (?, ?)";
+    private static final String SELECT_BEAT = "SELECT beat_at FROM replica_heartbeats WHERE instance_id = ?";
+    
+    private final String instanceId = UUID.randomUUID().toString();
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    
+    // Until the first successful check nothing is known about the replica
+    private volatile State state = State.DOWN;
+    private volatile long replicatedBeatMillis;
+    private volatile long lagMillis;
+    private final Map<Long, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource,
+                             Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLag.toMillis();
+        TimeGauge.builder("taskhive.datasource.replica.lag", this, TimeUnit.MILLISECONDS, monitor -> monitor.lagMillis)
+            .description("How far the replica trails the primary, measured by heartbeat")
+            .register(meterRegistry);
+        Gauge.builder("taskhive.datasource.replica.available", this, monitor -> monitor.state == State.UP ? 1 : 0)
+            .description("1 while reads may be routed to the replica")
+            .register(meterRegistry);
+        Gauge.builder("taskhive.datasource.replica.pinned-users", lastWriteByUser, Map::size)
+            .description("Users reading from the primary until the replica has their last write")
+            .register(meterRegistry);
+    }
+    
+    public State getState() {
+        return state;
+    }
+    
+    public long getLagMillis() {
+        return lagMillis;
+    }
+    
+    public boolean canRead(Long userId) {
+        if (state != State.UP) {
+            return false;
+        }
+        if (userId == null) {
+            return true;
+        }
+        Long lastWrite = lastWriteByUser.get(userId);
+        return lastWrite == null || lastWrite < replicatedBeatMillis;
+    }
+    
+    @Scheduled(fixedDelayString = "${taskhive.datasource.replica.check-interval:1s}")
+    public void check() {
+        long beat = System.currentTimeMillis();
+        try {
+            Timestamp beatAt = new Timestamp(beat);
+            if (primary.update(UPDATE_BEAT, beatAt, instanceId) == 0) {
+                primary.update(INSERT_BEAT, instanceId, beatAt);
+            }
+        } catch (DataAccessException e) {
+            // Requests report primary failures themselves; keep the last known replica state
+            log.warn("Could not write replica heartbeat to the primary: {}", e.getMessage());
+            return;
+        }
+        
+        List<Timestamp> replicated;
+        try {
+            replicated = replica.queryForList(SELECT_BEAT, Timestamp.class, instanceId);
+        } catch (DataAccessException e) {
+            markDown(e.getMessage());
+            return;
+        }
+        if (replicated.isEmpty()) {
+            // The first heartbeat has not arrived yet
+            lagMillis = 0;
+            update(State.LAGGING, "waiting for the first heartbeat");
+            return;
+        }
+        replicatedBeatMillis = replicated.get(0).getTime();
+        lagMillis = Math.max(0, beat - replicatedBeatMillis);
+        lastWriteByUser.values().removeIf(lastWrite -> lastWrite < replicatedBeatMillis);
+        if (lagMillis <= maxLagMillis) {
+            update(State.UP, null);
+        } else {
+            update(State.LAGGING, lagMillis + " ms behind");
+        }
+    }
+    
+    // Reads go to the primary until the next successful check
+    public void markDown(String reason) {
+        update(State.DOWN, reason);
+    }
+    
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        Long userId = currentUserId();
+        if (userId != null) {
+            lastWriteByUser.put(userId, System.currentTimeMillis());
+        }
+    }
+    
+    private void update(State newState, String reason) {
+        State previous = state;
+        state = newState;
+        if (previous == newState) {
+            return;
+        }
+        if (newState == State.UP) {
+            log.info("Replica reads enabled (was {})", previous);
+        } else {
+            log.warn("Replica reads disabled, {}: {}", newState, reason);
+        }
+    }
+    
+    static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.userId();
+        }
+        return null;
+    }
+}
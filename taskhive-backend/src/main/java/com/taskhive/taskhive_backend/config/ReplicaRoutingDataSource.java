@@ -0,0 +1,76 @@
+package com.taskhive.taskhive_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Target of the lazy connection proxy, so it is asked for a connection at the first statement
+// of a transaction. Read-only transactions get a replica connection when the monitor allows it
+// for the current user; everything else, and any read while the replica pool fails, gets the
+// primary.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor monitor;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.monitor = monitor;
+        this.replicaReads = Counter.builder("taskhive.datasource.reads")
+            .description("Read-only transactions by the database that served them")
+            .tag("target", "replica")
+            .register(meterRegistry);
+        this.primaryReads = Counter.builder("taskhive.datasource.reads")
+            .description("Read-only transactions by the database that served them")
+            .tag("target", "primary")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        if (monitor.canRead(ReplicaLagMonitor.currentUserId())) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("Replica connection failed, reading from the primary: {}", e.getMessage());
+                monitor.markDown(e.getMessage());
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+    
+    // Callers passing their own credentials get the primary, whatever the transaction
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+    
+    // Pool introspection (sizing, metrics) sees the primary pool
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+    
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskhive.taskhive_backend.config;
+
+import com.taskhive.taskhive_backend.monitoring.StatementCounter;
+import com.taskhive.taskhive_backend.monitoring.StatementCountingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StatementCountingConfig {
+    
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+    
+    @Bean
+    public FilterRegistrationBean<StatementCountingFilter> statementCountingFilter(
+            StatementCounter statementCounter,
+            MeterRegistry meterRegistry,
+            @Value("${taskhive.sql.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        FilterRegistrationBean<StatementCountingFilter> registration = new FilterRegistrationBean<>(
+            new StatementCountingFilter(statementCounter, meterRegistry, repeatedStatementThreshold));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
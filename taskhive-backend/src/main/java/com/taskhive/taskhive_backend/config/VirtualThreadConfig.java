@@ -0,0 +1,42 @@
+package com.taskhive.taskhive_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Active when spring.threads.virtual.enabled=true on Java 21+. Spring Boot then runs Tomcat
+// request handling, @Scheduled jobs and the application task executor on virtual threads;
+// this adds the pool-aware limiter in front of the API.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+    
+    @Bean
+    public FilterRegistrationBean<DatabaseConcurrencyLimiter> databaseConcurrencyLimiter(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${taskhive.db-limiter.permits:0}") int permits,
+            @Value("${taskhive.db-limiter.acquire-timeout:2s}") Duration acquireTimeout) {
+        int maxConcurrent = permits > 0 ? permits : poolSize(dataSource);
+        FilterRegistrationBean<DatabaseConcurrencyLimiter> registration = new FilterRegistrationBean<>(
+            new DatabaseConcurrencyLimiter(maxConcurrent, acquireTimeout, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+    
+    private static int poolSize(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (Exception e) {
+            return 10;
+        }
+    }
+}
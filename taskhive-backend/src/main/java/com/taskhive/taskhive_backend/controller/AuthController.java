@@ -1,16 +1,23 @@
 package com.taskhive.taskhive_backend.controller;
 
 import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.security.AuthenticatedUser;
+import com.taskhive.taskhive_backend.security.PasswordHashingService;
+import com.taskhive.taskhive_backend.security.PasswordHashingUnavailableException;
+import com.taskhive.taskhive_backend.security.TokenService;
 import com.taskhive.taskhive_backend.service.AuthService;
 import com.taskhive.taskhive_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -21,40 +28,32 @@ public class AuthController {
     
     private final AuthService authService;
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TokenService tokenService;
     
     @GetMapping("/validate-token")
     public ResponseEntity<?> validateToken(@RequestParam String token) {
-        log.info("[ENTRY] GET /api/auth/validate-token - Token: {}...", token.substring(0, Math.min(token.length(), 10)));
+        log.debug("[ENTRY] GET /api/auth/validate-token - Token: {}...", token.substring(0, Math.min(token.length(), 10)));
         try {
-            // Simple demo validation
-            if ("demo-token-123".equals(token)) {
-                // Get real user data
-                Optional<User> userOpt = userRepository.findByEmail("root");
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    Long companyId = user.getCompany() != null ? user.getCompany().getId() : 1L;
-                    log.info("Validate-token - User company: {}, CompanyId: {}", user.getCompany(), companyId);
-                    ResponseEntity<?> response = ResponseEntity.ok(Map.of(
-                        "valid", true,
-                        "user", Map.of(
-                            "id", user.getId(),
-                            "username", user.getEmail(),
-                            "name", user.getName(),
-                            "role", user.getRole().toString().toLowerCase(),
-                            "companyId", companyId
-                        )
-                    ));
-                    log.info("[EXIT] GET /api/auth/validate-token - Valid: 200");
-                    return response;
-                } else {
-                    ResponseEntity<?> response = ResponseEntity.ok(Map.of("valid", false));
-                    log.info("[EXIT] GET /api/auth/validate-token - User not found: 200");
-                    return response;
-                }
+            // Signature and expiry are checked in memory; the user comes from the token claims
+            Optional<AuthenticatedUser> userOpt = tokenService.verify(token);
+            if (userOpt.isPresent()) {
+                AuthenticatedUser user = userOpt.get();
+                ResponseEntity<?> response = ResponseEntity.ok(Map.of(
+                    "valid", true,
+                    "user", Map.of(
+                        "id", user.userId(),
+                        "username", user.email(),
+                        "name", user.name(),
+                        "role", user.role(),
+                        "companyId", user.companyId()
+                    )
+                ));
+                log.debug("[EXIT] GET /api/auth/validate-token - Valid: 200");
+                return response;
             } else {
                 ResponseEntity<?> response = ResponseEntity.ok(Map.of("valid", false));
-                log.info("[EXIT] GET /api/auth/validate-token - Invalid: 200");
+                log.debug("[EXIT] GET /api/auth/validate-token - Invalid: 200");
                 return response;
             }
         } catch (Exception e) {
@@ -79,6 +78,8 @@ public class AuthController {
                 "message", "Password set successfully",
                 "data", Map.of("userId", user.getId())
             ));
+        } catch (PasswordHashingUnavailableException e) {
+            return serviceBusy(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
@@ -88,34 +89,37 @@ public class AuthController {
     }
     
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> request) {
-        log.info("[ENTRY] POST /api/auth/login - Request: {}", request.keySet());
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody Map<String, String> request) {
+        log.debug("[ENTRY] POST /api/auth/login - Request: {}", request.keySet());
         try {
             String username = request.get("username");
             String password = request.get("password");
             
-            log.info("Processing login for username: {}", username);
+            log.debug("Processing login for username: {}", username);
             
             // Find user by email (username)
             Optional<User> userOpt = userRepository.findByEmail(username);
             
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
-                
-                // Verify password
-                log.info("Stored password hash: {}", user.getPassword());
-                log.info("Input password: {}", password);
-                boolean passwordMatch = passwordEncoder.matches(password, user.getPassword());
-                log.info("Password match result: {}", passwordMatch);
-                
-                if (passwordMatch) {
-                    log.info("Login successful for user: {}", username);
+            if (userOpt.isEmpty()) {
+                log.warn("User not found: {}", username);
+                return CompletableFuture.completedFuture(invalidCredentials());
+            }
+            User user = userOpt.get();
+            
+            // Verify password on the hashing executor; the request thread is released while bcrypt runs
+            return passwordHashingService.matchesAsync(password, user.getPassword())
+                .<ResponseEntity<?>>thenApply(passwordMatch -> {
+                    if (!passwordMatch) {
+                        log.warn("Invalid password for username: {}", username);
+                        return invalidCredentials();
+                    }
+                    log.debug("Login successful for user: {}", username);
                     Long companyId = user.getCompany() != null ? user.getCompany().getId() : 1L;
-                    log.info("User company: {}, CompanyId: {}", user.getCompany(), companyId);
+                    log.debug("Login companyId: {}", companyId);
                     ResponseEntity<?> response = ResponseEntity.ok(Map.of(
                         "success", true,
                         "message", "Login successful",
-                        "token", "demo-token-123",
+                        "token", tokenService.issue(user),
                         "user", Map.of(
                             "id", user.getId(),
                             "username", user.getEmail(),
@@ -124,27 +128,43 @@ public class AuthController {
                             "companyId", companyId
                         )
                     ));
-                    log.info("[EXIT] POST /api/auth/login - Success: 200");
+                    log.debug("[EXIT] POST /api/auth/login - Success: 200");
                     return response;
-                } else {
-                    log.warn("Invalid password for username: {}", username);
-                }
-            } else {
-                log.warn("User not found: {}", username);
-            }
-            
-            ResponseEntity<?> response = ResponseEntity.badRequest().body(Map.of(
-                "success", false,
-                "message", "Invalid credentials"
-            ));
-            log.info("[EXIT] POST /api/auth/login - Failed: 400");
-            return response;
+                })
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    log.error("[EXIT] POST /api/auth/login - Error: {}", cause.getMessage());
+                    return ResponseEntity.badRequest().body(Map.of(
+                        "success", false,
+                        "message", String.valueOf(cause.getMessage())
+                    ));
+                });
+        } catch (PasswordHashingUnavailableException e) {
+            log.warn("[EXIT] POST /api/auth/login - Rejected: 503");
+            return CompletableFuture.completedFuture(serviceBusy(e));
         } catch (Exception e) {
             log.error("[EXIT] POST /api/auth/login - Error: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(Map.of(
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(Map.of(
                 "success", false,
                 "message", e.getMessage()
-            ));
+            )));
         }
     }
-}
\ No newline at end of file
+    
+    private ResponseEntity<?> invalidCredentials() {
+        log.debug("[EXIT] POST /api/auth/login - Failed: 400");
+        return ResponseEntity.badRequest().body(Map.of(
+            "success", false,
+            "message", "Invalid credentials"
+        ));
+    }
+    
+    private ResponseEntity<?> serviceBusy(PasswordHashingUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+    }
+}
@@ -1,7 +1,8 @@
 package com.taskhive.taskhive_backend.controller;
 
-import com.taskhive.taskhive_backend.service.StoryService;
-import com.taskhive.taskhive_backend.service.SprintService;
+import com.taskhive.taskhive_backend.dto.DashboardStats;
+import com.taskhive.taskhive_backend.monitoring.QueryBudget;
+import com.taskhive.taskhive_backend.service.AnalyticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -16,32 +17,18 @@ import java.util.Map;
 @Slf4j
 public class DashboardController {
     
-    private final StoryService storyService;
-    private final SprintService sprintService;
+    private final AnalyticsService analyticsService;
     
     @GetMapping("/dashboard")
-    public ResponseEntity<?> getDashboardStats(@RequestParam Long companyId) {
+    @QueryBudget(3)
+    public ResponseEntity<?> getDashboardStats(@RequestParam Long companyId,
+                                               @RequestParam(defaultValue = "false") boolean breakdown) {
         try {
-            log.info("Getting dashboard stats for company: {}", companyId);
+            log.debug("Getting dashboard stats for company: {}", companyId);
             
-            var stories = storyService.getAllStoriesByCompany(companyId);
-            var sprints = sprintService.getAllSprintsByCompany(companyId);
+            DashboardStats stats = analyticsService.getDashboardStats(companyId, breakdown);
             
-            long totalStories = stories.size();
-            long completedStories = stories.stream().filter(s -> "Completed".equals(s.getStatus())).count();
-            long inProgressStories = stories.stream().filter(s -> "In Progress".equals(s.getStatus())).count();
-            long pendingStories = stories.stream().filter(s -> "Pending".equals(s.getStatus())).count();
-            
-            Map<String, Object> stats = Map.of(
-                "totalStories", totalStories,
-                "completedStories", completedStories,
-                "inProgressStories", inProgressStories,
-                "pendingStories", pendingStories,
-                "totalSprints", sprints.size(),
-                "activeSprints", sprints.stream().filter(s -> "ACTIVE".equals(s.getStatus().name())).count()
-            );
-            
-            log.info("Dashboard stats: {}", stats);
+            log.debug("Dashboard stats: {}", stats);
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
             log.error("Error getting dashboard stats: {}", e.getMessage());
@@ -51,4 +38,4 @@ public class DashboardController {
             ));
         }
     }
-}
\ No newline at end of file
+}
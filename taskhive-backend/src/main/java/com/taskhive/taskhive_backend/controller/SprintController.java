@@ -1,14 +1,34 @@
 package com.taskhive.taskhive_backend.controller;
 
+import com.taskhive.taskhive_backend.dto.SprintBurndown;
+import com.taskhive.taskhive_backend.dto.SprintSummary;
+import com.taskhive.taskhive_backend.dto.StorySummary;
 import com.taskhive.taskhive_backend.model.Sprint;
 import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.monitoring.QueryBudget;
+import com.taskhive.taskhive_backend.security.AuthenticatedUser;
+import com.taskhive.taskhive_backend.service.ExportService;
+import com.taskhive.taskhive_backend.service.ResourceVersionService;
+import com.taskhive.taskhive_backend.service.SprintBoardEventBroker;
+import com.taskhive.taskhive_backend.service.SprintBurndownService;
+import com.taskhive.taskhive_backend.service.SprintRollupService;
 import com.taskhive.taskhive_backend.service.SprintService;
 import com.taskhive.taskhive_backend.service.StoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -21,14 +41,26 @@ public class SprintController {
     
     private final SprintService sprintService;
     private final StoryService storyService;
+    private final ExportService exportService;
+    private final SprintBoardEventBroker sprintBoardEventBroker;
+    private final ResourceVersionService resourceVersionService;
+    private final SprintRollupService sprintRollupService;
+    private final SprintBurndownService sprintBurndownService;
     
     @GetMapping
-    public ResponseEntity<?> getAllSprints(@RequestParam Long companyId) {
-        log.info("[ENTRY] GET /api/sprints - companyId: {}", companyId);
+    public ResponseEntity<?> getAllSprints(@RequestParam Long companyId, WebRequest webRequest) {
+        log.debug("[ENTRY] GET /api/sprints - companyId: {}", companyId);
         try {
-            List<Sprint> sprints = sprintService.getAllSprintsByCompany(companyId);
-            log.info("[EXIT] GET /api/sprints - Success: 200, Found {} sprints", sprints.size());
-            return ResponseEntity.ok(sprints);
+            // 304 without loading anything when the client's copy is current
+            String etag = resourceVersionService.sprintsEtag(companyId);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag)
+                    .cacheControl(ResourceVersionService.REVALIDATE).build();
+            }
+            
+            List<SprintSummary> sprints = sprintService.getAllSprintsByCompany(companyId);
+            log.debug("[EXIT] GET /api/sprints - Success: 200, Found {} sprints", sprints.size());
+            return ResponseEntity.ok().eTag(etag).cacheControl(ResourceVersionService.REVALIDATE).body(sprints);
         } catch (Exception e) {
             log.error("[EXIT] GET /api/sprints - Error: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of(
@@ -38,19 +70,84 @@ public class SprintController {
         }
     }
     
+    // Streams the company's sprints as NDJSON or CSV, optionally gzipped; from/to filter on startDate
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSprints(@RequestParam Long companyId,
+                                                               @RequestParam(defaultValue = "ndjson") String format,
+                                                               @RequestParam(defaultValue = "false") boolean gzip,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("[ENTRY] GET /api/sprints/export - companyId: {}, format: {}, gzip: {}", companyId, format, gzip);
+        try {
+            ExportService.Format exportFormat = ExportService.Format.parse(format);
+            StreamingResponseBody body = exportService.exportSprints(companyId, from, to, exportFormat, gzip);
+            log.debug("[EXIT] GET /api/sprints/export - Success: 200, streaming");
+            return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(ExportService.filename("sprints", companyId, exportFormat, gzip)).build().toString())
+                .body(body);
+        } catch (Exception e) {
+            log.error("[EXIT] GET /api/sprints/export - Error: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(exportService.errorBody(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/{id}")
-    public ResponseEntity<?> getSprintById(@PathVariable Long id) {
+    public ResponseEntity<?> getSprintById(@PathVariable Long id, WebRequest webRequest) {
         try {
+            // 304 without loading anything when the client's copy is current
+            String etag = resourceVersionService.sprintEtag(id);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag)
+                    .cacheControl(ResourceVersionService.REVALIDATE).build();
+            }
+            
             Sprint sprint = sprintService.getSprintById(id);
-            List<Story> stories = storyService.getStoriesBySprintId(id);
+            List<StorySummary> stories = storyService.getStorySummariesBySprintId(id);
             
             Map<String, Object> response = Map.of(
                 "sprint", sprint,
                 "stories", stories
             );
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).cacheControl(ResourceVersionService.REVALIDATE).body(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+    
+    // Story counts per status and points, maintained as stories change
+    @GetMapping("/{id}/rollup")
+    @QueryBudget(1)
+    public ResponseEntity<?> getSprintRollup(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(sprintRollupService.getRollup(id));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+    
+    // Burndown/burnup series from the sprint's snapshots; maxPoints thins very long series
+    @GetMapping("/{id}/burndown")
+    @QueryBudget(3)
+    public ResponseEntity<?> getSprintBurndown(@PathVariable Long id,
+                                               @RequestParam(required = false) Integer maxPoints) {
+        log.debug("[ENTRY] GET /api/sprints/{}/burndown - maxPoints: {}", id, maxPoints);
+        try {
+            SprintBurndown burndown = sprintBurndownService.getBurndown(id, maxPoints);
+            log.debug("[EXIT] GET /api/sprints/{}/burndown - Success: 200, {} points", id, burndown.points().size());
+            return ResponseEntity.ok(burndown);
         } catch (Exception e) {
+            log.error("[EXIT] GET /api/sprints/{}/burndown - Error: {}", id, e.getMessage());
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
                 "message", e.getMessage()
@@ -59,21 +156,22 @@ public class SprintController {
     }
     
     @GetMapping("/current")
+    @QueryBudget(2)
     public ResponseEntity<?> getCurrentSprint(@RequestParam Long companyId) {
-        log.info("[ENTRY] GET /api/sprints/current - companyId: {}", companyId);
+        log.debug("[ENTRY] GET /api/sprints/current - companyId: {}", companyId);
         try {
-            Sprint sprint = sprintService.getCurrentSprint(companyId);
-            List<Story> stories = storyService.getStoriesBySprintId(sprint.getId());
+            SprintSummary sprint = sprintService.getCurrentSprint(companyId);
+            List<StorySummary> stories = storyService.getStorySummariesBySprintId(sprint.id());
             
             Map<String, Object> response = Map.of(
                 "sprint", sprint,
                 "stories", stories
             );
             
-            log.info("[EXIT] GET /api/sprints/current - Success: 200, Sprint: {} with {} stories", sprint.getName(), stories.size());
+            log.debug("[EXIT] GET /api/sprints/current - Success: 200, Sprint: {} with {} stories", sprint.name(), stories.size());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            log.info("[EXIT] GET /api/sprints/current - No active sprint: 200");
+            log.debug("[EXIT] GET /api/sprints/current - No active sprint: 200");
             Map<String, Object> response = new java.util.HashMap<>();
             response.put("success", true);
             response.put("message", "No active sprint found. Create a new sprint to get started.");
@@ -83,12 +181,22 @@ public class SprintController {
         }
     }
     
+    // Server-sent board changes for one sprint, or every sprint of the company when sprintId is
+    // omitted. Clients load /current once and then apply events instead of polling; nothing is
+    // replayed, so a client reloads the board after reconnecting.
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToBoardEvents(@RequestParam Long companyId,
+                                             @RequestParam(required = false) Long sprintId) {
+        log.debug("[ENTRY] GET /api/sprints/events - companyId: {}, sprintId: {}", companyId, sprintId);
+        return sprintBoardEventBroker.subscribe(companyId, sprintId);
+    }
+    
     @PostMapping
     public ResponseEntity<?> createSprint(@RequestBody Sprint sprint) {
-        log.info("[ENTRY] POST /api/sprints - Name: {}", sprint.getName());
+        log.debug("[ENTRY] POST /api/sprints - Name: {}", sprint.getName());
         try {
             Sprint createdSprint = sprintService.createSprint(sprint);
-            log.info("[EXIT] POST /api/sprints - Success: 200, Created ID: {}", createdSprint.getSprintId());
+            log.debug("[EXIT] POST /api/sprints - Success: 200, Created ID: {}", createdSprint.getSprintId());
             return ResponseEntity.ok(createdSprint);
         } catch (Exception e) {
             log.error("[EXIT] POST /api/sprints - Error: {}", e.getMessage());
@@ -127,10 +235,11 @@ public class SprintController {
     
     @PostMapping("/{sprintId}/stories")
     public ResponseEntity<?> addStoryToSprint(@PathVariable Long sprintId, 
-                                            @RequestBody Map<String, Long> request) {
+                                            @RequestBody Map<String, Long> request,
+                                            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
             Long storyId = request.get("storyId");
-            Story story = storyService.addStoryToSprint(storyId, sprintId);
+            Story story = storyService.addStoryToSprint(user.companyId(), storyId, sprintId);
             return ResponseEntity.ok(story);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -142,9 +251,10 @@ public class SprintController {
     
     @DeleteMapping("/{sprintId}/stories/{storyId}")
     public ResponseEntity<?> removeStoryFromSprint(@PathVariable Long sprintId, 
-                                                 @PathVariable Long storyId) {
+                                                 @PathVariable Long storyId,
+                                                 @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            Story story = storyService.removeStoryFromSprint(storyId);
+            Story story = storyService.removeStoryFromSprint(user.companyId(), storyId);
             return ResponseEntity.ok(story);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -1,12 +1,32 @@
 package com.taskhive.taskhive_backend.controller;
 
+import com.taskhive.taskhive_backend.dto.StoryImportResult;
+import com.taskhive.taskhive_backend.dto.StoryPage;
+import com.taskhive.taskhive_backend.dto.StorySummary;
 import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.monitoring.QueryBudget;
+import com.taskhive.taskhive_backend.monitoring.RepeatedStatementsExpected;
+import com.taskhive.taskhive_backend.security.AuthenticatedUser;
+import com.taskhive.taskhive_backend.service.ExportService;
+import com.taskhive.taskhive_backend.service.ResourceVersionService;
+import com.taskhive.taskhive_backend.service.StoryImportService;
+import com.taskhive.taskhive_backend.service.StorySearchService;
 import com.taskhive.taskhive_backend.service.StoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -18,20 +38,39 @@ import java.util.Map;
 public class StoryController {
     
     private final StoryService storyService;
+    private final StorySearchService storySearchService;
+    private final StoryImportService storyImportService;
+    private final ExportService exportService;
+    private final ResourceVersionService resourceVersionService;
     
     @GetMapping
+    @QueryBudget(3)
     public ResponseEntity<?> getAllStories(@RequestParam Long companyId, 
-                                         @RequestParam(required = false) String type) {
-        log.info("[ENTRY] GET /api/stories - companyId: {}, type: {}", companyId, type);
+                                         @RequestParam(required = false) String type,
+                                         @RequestParam(required = false) String status,
+                                         @RequestParam(required = false) Long sprintId,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer limit,
+                                         WebRequest webRequest) {
+        log.debug("[ENTRY] GET /api/stories - companyId: {}, type: {}, cursor: {}, limit: {}", companyId, type, cursor, limit);
         try {
-            List<Story> stories;
-            if (type != null) {
-                stories = storyService.getStoriesByType(companyId, type);
-            } else {
-                stories = storyService.getAllStoriesByCompany(companyId);
+            // 304 without loading anything when the client's copy is current
+            String etag = resourceVersionService.storiesEtag(companyId);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag)
+                    .cacheControl(ResourceVersionService.REVALIDATE).build();
             }
-            log.info("[EXIT] GET /api/stories - Success: 200, Found {} stories", stories.size());
-            return ResponseEntity.ok(stories);
+            
+            // Paged mode when the client asks for it; the plain list is kept for existing callers
+            if (cursor != null || limit != null) {
+                StoryPage page = storyService.getStoriesPage(companyId, type, status, sprintId, cursor, limit);
+                log.debug("[EXIT] GET /api/stories - Success: 200, Page of {} stories, hasMore: {}", page.getItems().size(), page.getNextCursor() != null);
+                return ResponseEntity.ok().eTag(etag).cacheControl(ResourceVersionService.REVALIDATE).body(page);
+            }
+            
+            List<StorySummary> stories = storyService.getStorySummaries(companyId, type);
+            log.debug("[EXIT] GET /api/stories - Success: 200, Found {} stories", stories.size());
+            return ResponseEntity.ok().eTag(etag).cacheControl(ResourceVersionService.REVALIDATE).body(stories);
         } catch (Exception e) {
             log.error("[EXIT] GET /api/stories - Error: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of(
@@ -41,6 +80,54 @@ public class StoryController {
         }
     }
     
+    // Ranked full-text search over title, description and acceptance criteria
+    @GetMapping("/search")
+    @QueryBudget(3)
+    public ResponseEntity<?> searchStories(@RequestParam Long companyId,
+                                           @RequestParam String q,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) Integer limit) {
+        log.debug("[ENTRY] GET /api/stories/search - companyId: {}, q: {}, cursor: {}, limit: {}", companyId, q, cursor, limit);
+        try {
+            StoryPage page = storySearchService.search(companyId, q, cursor, limit);
+            log.debug("[EXIT] GET /api/stories/search - Success: 200, Page of {} stories, hasMore: {}", page.getItems().size(), page.getNextCursor() != null);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            log.error("[EXIT] GET /api/stories/search - Error: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+    
+    // Streams the whole (filtered) backlog as NDJSON or CSV, optionally gzipped
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStories(@RequestParam Long companyId,
+                                                               @RequestParam(defaultValue = "ndjson") String format,
+                                                               @RequestParam(defaultValue = "false") boolean gzip,
+                                                               @RequestParam(required = false) String type,
+                                                               @RequestParam(required = false) Long sprintId,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("[ENTRY] GET /api/stories/export - companyId: {}, format: {}, gzip: {}", companyId, format, gzip);
+        try {
+            ExportService.Format exportFormat = ExportService.Format.parse(format);
+            StreamingResponseBody body = exportService.exportStories(companyId, type, sprintId, from, to, exportFormat, gzip);
+            log.debug("[EXIT] GET /api/stories/export - Success: 200, streaming");
+            return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(ExportService.filename("stories", companyId, exportFormat, gzip)).build().toString())
+                .body(body);
+        } catch (Exception e) {
+            log.error("[EXIT] GET /api/stories/export - Error: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(exportService.errorBody(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<?> getStoryById(@PathVariable Long id) {
         try {
@@ -69,10 +156,10 @@ public class StoryController {
     
     @PostMapping
     public ResponseEntity<?> createStory(@RequestBody Story story) {
-        log.info("[ENTRY] POST /api/stories - Title: {}, Type: {}", story.getTitle(), story.getType());
+        log.debug("[ENTRY] POST /api/stories - Title: {}, Type: {}", story.getTitle(), story.getType());
         try {
             Story createdStory = storyService.createStory(story);
-            log.info("[EXIT] POST /api/stories - Success: 200, Created ID: {}", createdStory.getStoryId());
+            log.debug("[EXIT] POST /api/stories - Success: 200, Created ID: {}", createdStory.getStoryId());
             return ResponseEntity.ok(createdStory);
         } catch (Exception e) {
             log.error("[EXIT] POST /api/stories - Error: {}", e.getMessage());
@@ -83,10 +170,35 @@ public class StoryController {
         }
     }
     
+    // Streams the body; Content-Type text/csv (with a header row) or application/x-ndjson
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @RepeatedStatementsExpected
+    public ResponseEntity<?> importStories(@RequestParam Long companyId,
+                                           @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                           @AuthenticationPrincipal AuthenticatedUser user,
+                                           InputStream body) {
+        log.debug("[ENTRY] POST /api/stories/import - companyId: {}, Content-Type: {}", companyId, contentType);
+        try {
+            Long createdBy = user != null ? user.userId() : 1L;
+            StoryImportResult result = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? storyImportService.importNdjson(companyId, createdBy, body)
+                : storyImportService.importCsv(companyId, createdBy, body);
+            log.debug("[EXIT] POST /api/stories/import - Success: 200, Imported {}, failed {}", result.getImported(), result.getFailed());
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("[EXIT] POST /api/stories/import - Error: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+    
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateStory(@PathVariable Long id, @RequestBody Story story) {
+    public ResponseEntity<?> updateStory(@PathVariable Long id, @RequestBody Story story,
+                                         @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            Story updatedStory = storyService.updateStory(id, story);
+            Story updatedStory = storyService.updateStory(user.companyId(), id, story);
             return ResponseEntity.ok(updatedStory);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -97,9 +209,9 @@ public class StoryController {
     }
     
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteStory(@PathVariable Long id) {
+    public ResponseEntity<?> deleteStory(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            storyService.deleteStory(id);
+            storyService.deleteStory(user.companyId(), id);
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "Story deleted successfully"
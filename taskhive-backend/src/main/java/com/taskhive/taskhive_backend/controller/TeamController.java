@@ -1,17 +1,29 @@
 package com.taskhive.taskhive_backend.controller;
 
 import com.taskhive.taskhive_backend.dto.TeamCreateRequest;
+import com.taskhive.taskhive_backend.dto.TeamMemberCount;
+import com.taskhive.taskhive_backend.dto.TeamMemberName;
 import com.taskhive.taskhive_backend.dto.TeamResponse;
+import com.taskhive.taskhive_backend.dto.TeamSummary;
+import com.taskhive.taskhive_backend.model.CollectionVersion;
 import com.taskhive.taskhive_backend.model.Team;
-import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.monitoring.QueryBudget;
 import com.taskhive.taskhive_backend.repository.TeamRepository;
 import com.taskhive.taskhive_backend.repository.UserRepository;
 import com.taskhive.taskhive_backend.repository.CompanyRepository;
+import com.taskhive.taskhive_backend.service.CollectionVersionService;
+import com.taskhive.taskhive_backend.service.ReferenceDataService;
+import com.taskhive.taskhive_backend.service.ResourceVersionService;
+import com.taskhive.taskhive_backend.service.TeamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,23 +37,49 @@ public class TeamController {
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
+    private final TeamService teamService;
+    private final ReferenceDataService referenceDataService;
+    private final ResourceVersionService resourceVersionService;
+    private final CollectionVersionService collectionVersionService;
     
     @GetMapping
-    public ResponseEntity<?> getAllTeams(@RequestParam Long companyId) {
-        log.info("[ENTRY] GET /api/teams - companyId: {}", companyId);
+    @QueryBudget(5)
+    public ResponseEntity<?> getAllTeams(@RequestParam Long companyId,
+                                         @RequestParam(defaultValue = "false") boolean countOnly,
+                                         WebRequest webRequest) {
+        log.debug("[ENTRY] GET /api/teams - companyId: {}, countOnly: {}", companyId, countOnly);
         try {
-            List<Team> teams = teamRepository.findByCompanyId(companyId);
+            // 304 without loading anything when the client's copy is current
+            String etag = resourceVersionService.teamsEtag(companyId);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag)
+                    .cacheControl(ResourceVersionService.REVALIDATE).build();
+            }
+            
+            List<TeamSummary> teams = teamRepository.findSummariesByCompanyId(companyId);
             
-            List<TeamResponse> teamResponses = teams.stream().map(team -> {
-                List<String> memberNames = userRepository.findByTeamId(team.getId())
-                    .stream().map(user -> user.getName()).toList();
-                log.info("Team {} has {} members: {}", team.getName(), memberNames.size(), memberNames);
-                return new TeamResponse(team.getId(), team.getName(), team.getDescription(), 
-                    memberNames, team.getCreatedAt());
-            }).toList();
+            List<TeamResponse> teamResponses;
+            if (countOnly) {
+                Map<Long, Long> memberCounts = new HashMap<>();
+                for (TeamMemberCount row : userRepository.countTeamMembers(companyId)) {
+                    memberCounts.put(row.getTeamId(), row.getMemberCount());
+                }
+                teamResponses = teams.stream().map(team -> new TeamResponse(team.id(), team.name(),
+                    team.description(), memberCounts.getOrDefault(team.id(), 0L).intValue(),
+                    team.createdAt())).toList();
+            } else {
+                // All member names of the company in one round trip, grouped by team in memory
+                Map<Long, List<String>> membersByTeam = new HashMap<>();
+                for (TeamMemberName row : userRepository.findTeamMemberNames(companyId)) {
+                    membersByTeam.computeIfAbsent(row.getTeamId(), k -> new ArrayList<>()).add(row.getName());
+                }
+                teamResponses = teams.stream().map(team -> new TeamResponse(team.id(), team.name(),
+                    team.description(), membersByTeam.getOrDefault(team.id(), List.of()),
+                    team.createdAt())).toList();
+            }
             
-            log.info("[EXIT] GET /api/teams - Success: 200, Found {} teams", teamResponses.size());
-            return ResponseEntity.ok(teamResponses);
+            log.debug("[EXIT] GET /api/teams - Success: 200, Found {} teams", teamResponses.size());
+            return ResponseEntity.ok().eTag(etag).cacheControl(ResourceVersionService.REVALIDATE).body(teamResponses);
         } catch (Exception e) {
             log.error("[EXIT] GET /api/teams - Error: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of(
@@ -53,19 +91,20 @@ public class TeamController {
     
     @PostMapping
     public ResponseEntity<?> createTeam(@RequestBody TeamCreateRequest request, @RequestParam Long companyId) {
-        log.info("[ENTRY] POST /api/teams - Name: {}, Members: {}, CompanyId: {}", request.getName(), request.getMembers().size(), companyId);
+        log.debug("[ENTRY] POST /api/teams - Name: {}, Members: {}, CompanyId: {}", request.getName(), request.getMembers().size(), companyId);
         try {
             Team team = new Team();
             team.setName(request.getName());
             team.setDescription(request.getDescription());
             
-            // Get company by ID
-            Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new RuntimeException("Company not found with id: " + companyId));
-            team.setCompany(company);
+            // Validate the company against the reference cache; only its FK is written
+            referenceDataService.getCompany(companyId);
+            team.setCompany(companyRepository.getReferenceById(companyId));
             
             Team createdTeam = teamRepository.save(team);
-            log.info("[EXIT] POST /api/teams - Success: 200, Created ID: {}", createdTeam.getId());
+            collectionVersionService.changed(companyId, CollectionVersion.Kind.TEAMS);
+            referenceDataService.evictTeams(companyId);
+            log.debug("[EXIT] POST /api/teams - Success: 200, Created ID: {}", createdTeam.getId());
             return ResponseEntity.ok(createdTeam);
         } catch (Exception e) {
             log.error("[EXIT] POST /api/teams - Error: {}", e.getMessage());
@@ -78,7 +117,7 @@ public class TeamController {
     
     @PutMapping("/{id}")
     public ResponseEntity<?> updateTeam(@PathVariable Long id, @RequestBody TeamCreateRequest request) {
-        log.info("[ENTRY] PUT /api/teams/{} - Name: {}", id, request.getName());
+        log.debug("[ENTRY] PUT /api/teams/{} - Name: {}", id, request.getName());
         try {
             Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Team not found with id: " + id));
@@ -87,7 +126,10 @@ public class TeamController {
             team.setDescription(request.getDescription());
             
             Team updatedTeam = teamRepository.save(team);
-            log.info("[EXIT] PUT /api/teams/{} - Success: 200", id);
+            Long companyId = updatedTeam.getCompany().getId();
+            collectionVersionService.changed(companyId, CollectionVersion.Kind.TEAMS);
+            referenceDataService.evictTeams(companyId);
+            log.debug("[EXIT] PUT /api/teams/{} - Success: 200", id);
             return ResponseEntity.ok(updatedTeam);
         } catch (Exception e) {
             log.error("[EXIT] PUT /api/teams/{} - Error: {}", id, e.getMessage());
@@ -99,36 +141,21 @@ public class TeamController {
     }
     
     @PutMapping("/{id}/members")
+    @QueryBudget(5)
     public ResponseEntity<?> updateTeamMembers(@PathVariable Long id, @RequestBody Map<String, Object> request) {
-        log.info("[ENTRY] PUT /api/teams/{}/members", id);
+        log.debug("[ENTRY] PUT /api/teams/{}/members", id);
         try {
             @SuppressWarnings("unchecked")
             List<String> memberNames = (List<String>) request.get("members");
             
-            // First, remove all users from this team
-            List<com.taskhive.taskhive_backend.model.User> currentMembers = userRepository.findByTeamId(id);
-            for (com.taskhive.taskhive_backend.model.User user : currentMembers) {
-                user.setTeamId(null);
-                userRepository.save(user);
-            }
+            Map<String, Integer> changes = teamService.updateMembers(id, memberNames);
             
-            // Then, assign selected users to this team
-            for (String memberName : memberNames) {
-                List<com.taskhive.taskhive_backend.model.User> users = userRepository.findByCompanyId(1L);
-                com.taskhive.taskhive_backend.model.User user = users.stream()
-                    .filter(u -> u.getName().equals(memberName))
-                    .findFirst()
-                    .orElse(null);
-                if (user != null) {
-                    user.setTeamId(id);
-                    userRepository.save(user);
-                }
-            }
-            
-            log.info("[EXIT] PUT /api/teams/{}/members - Success: 200, Updated {} members", id, memberNames.size());
+            log.debug("[EXIT] PUT /api/teams/{}/members - Success: 200, Added {}, removed {} members", id, changes.get("added"), changes.get("removed"));
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "message", "Team members updated successfully"
+                "message", "Team members updated successfully",
+                "added", changes.get("added"),
+                "removed", changes.get("removed")
             ));
         } catch (Exception e) {
             log.error("[EXIT] PUT /api/teams/{}/members - Error: {}", id, e.getMessage());
@@ -140,20 +167,13 @@ public class TeamController {
     }
     
     @DeleteMapping("/{id}")
+    @QueryBudget(4)
     public ResponseEntity<?> deleteTeam(@PathVariable Long id) {
-        log.info("[ENTRY] DELETE /api/teams/{}", id);
+        log.debug("[ENTRY] DELETE /api/teams/{}", id);
         try {
-            // First, remove team assignment from all users in this team
-            List<com.taskhive.taskhive_backend.model.User> teamMembers = userRepository.findByTeamId(id);
-            for (com.taskhive.taskhive_backend.model.User user : teamMembers) {
-                user.setTeamId(null);
-                userRepository.save(user);
-            }
-            
-            // Then delete the team
-            teamRepository.deleteById(id);
+            teamService.deleteTeam(id);
             
-            log.info("[EXIT] DELETE /api/teams/{} - Success: 200", id);
+            log.debug("[EXIT] DELETE /api/teams/{} - Success: 200", id);
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "Team deleted successfully"
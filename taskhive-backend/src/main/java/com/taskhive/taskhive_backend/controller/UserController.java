@@ -1,11 +1,15 @@
 package com.taskhive.taskhive_backend.controller;
 
+import com.taskhive.taskhive_backend.dto.UserSummary;
 import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.service.ResourceVersionService;
 import com.taskhive.taskhive_backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -18,14 +22,22 @@ import java.util.Map;
 public class UserController {
     
     private final UserService userService;
+    private final ResourceVersionService resourceVersionService;
     
     @GetMapping
-    public ResponseEntity<?> getAllUsers(@RequestParam Long companyId) {
-        log.info("[ENTRY] GET /api/users - companyId: {}", companyId);
+    public ResponseEntity<?> getAllUsers(@RequestParam Long companyId, WebRequest webRequest) {
+        log.debug("[ENTRY] GET /api/users - companyId: {}", companyId);
         try {
-            List<User> users = userService.getAllUsersByCompany(companyId);
-            log.info("[EXIT] GET /api/users - Success: 200, Found {} users", users.size());
-            return ResponseEntity.ok(users);
+            // 304 without loading anything when the client's copy is current
+            String etag = resourceVersionService.usersEtag(companyId);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag)
+                    .cacheControl(ResourceVersionService.REVALIDATE).build();
+            }
+            
+            List<UserSummary> users = userService.getAllUsersByCompany(companyId);
+            log.debug("[EXIT] GET /api/users - Success: 200, Found {} users", users.size());
+            return ResponseEntity.ok().eTag(etag).cacheControl(ResourceVersionService.REVALIDATE).body(users);
         } catch (Exception e) {
             log.error("[EXIT] GET /api/users - Error: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of(
@@ -41,7 +53,7 @@ public class UserController {
             User user = userService.getUserById(id);
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "data", user
+                "data", UserSummary.from(user)
             ));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -53,7 +65,7 @@ public class UserController {
     
     @PostMapping
     public ResponseEntity<?> createUser(@RequestBody Map<String, Object> userData, @RequestParam Long companyId) {
-        log.info("[ENTRY] POST /api/users - companyId: {}, user: {}", companyId, userData.get("name"));
+        log.debug("[ENTRY] POST /api/users - companyId: {}, user: {}", companyId, userData.get("name"));
         try {
             // Create User object from map data
             User user = new User();
@@ -76,11 +88,11 @@ public class UserController {
             String teamName = (String) userData.get("team");
             
             User createdUser = userService.createUser(user, teamName);
-            log.info("[EXIT] POST /api/users - Success: 200, Created user ID: {}", createdUser.getId());
+            log.debug("[EXIT] POST /api/users - Success: 200, Created user ID: {}", createdUser.getId());
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "User created successfully",
-                "data", createdUser
+                "data", UserSummary.from(createdUser)
             ));
         } catch (Exception e) {
             log.error("[EXIT] POST /api/users - Error: {}", e.getMessage());
@@ -98,7 +110,7 @@ public class UserController {
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "User updated successfully",
-                "data", updatedUser
+                "data", UserSummary.from(updatedUser)
             ));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
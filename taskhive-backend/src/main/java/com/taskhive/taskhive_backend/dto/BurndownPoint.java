@@ -0,0 +1,19 @@
+package com.taskhive.taskhive_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+public record BurndownPoint(
+    LocalDateTime capturedAt,
+    int totalPoints,
+    int completedPoints,
+    int storyCount,
+    int completedCount
+) {
+    
+    @JsonProperty
+    public int remainingPoints() {
+        return totalPoints - completedPoints;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskhive.taskhive_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardStats {
+    private long totalStories;
+    private long completedStories;
+    private long inProgressStories;
+    private long pendingStories;
+    private long totalSprints;
+    private long activeSprints;
+    private Map<String, Long> storiesByStatus;
+    private Map<String, Long> storyPointsByStatus;
+    private Map<String, Long> storyPointsByType;
+}
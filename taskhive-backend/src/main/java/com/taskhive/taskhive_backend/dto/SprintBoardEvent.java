@@ -0,0 +1,88 @@
+package com.taskhive.taskhive_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.model.SprintRollup;
+import com.taskhive.taskhive_backend.model.Story;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Compact change pushed to sprint board subscribers; only the fields the board renders
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SprintBoardEvent {
+    
+    public static final String STORY_UPDATED = "story-updated";
+    public static final String STORY_ADDED = "story-added";
+    public static final String STORY_REMOVED = "story-removed";
+    public static final String SPRINT_UPDATED = "sprint-updated";
+    public static final String SPRINT_PROGRESS = "sprint-progress";
+    
+    private String type;
+    @JsonIgnore
+    private Long companyId;
+    private Long sprintId;
+    // Set when a story left this sprint (moved or removed)
+    private Long previousSprintId;
+    
+    private Long storyId;
+    private String storyKey;
+    private String title;
+    private String status;
+    private String priority;
+    private Integer progress;
+    private Integer storyPoints;
+    private String assigneeName;
+    
+    private String name;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    
+    private Long totalPoints;
+    private Long completedPoints;
+    
+    public static SprintBoardEvent forStory(String type, Long companyId, Story story, Long previousSprintId) {
+        SprintBoardEvent event = new SprintBoardEvent();
+        event.setType(type);
+        event.setCompanyId(companyId);
+        event.setSprintId(story.getSprintId());
+        event.setPreviousSprintId(previousSprintId);
+        event.setStoryId(story.getId());
+        event.setStoryKey(story.getStoryId());
+        event.setTitle(story.getTitle());
+        event.setStatus(story.getStatus());
+        event.setPriority(story.getPriority());
+        event.setProgress(story.getProgress());
+        event.setStoryPoints(story.getStoryPoints());
+        event.setAssigneeName(story.getAssigneeName());
+        return event;
+    }
+    
+    public static SprintBoardEvent forSprint(Long companyId, Sprint sprint) {
+        SprintBoardEvent event = new SprintBoardEvent();
+        event.setType(SPRINT_UPDATED);
+        event.setCompanyId(companyId);
+        event.setSprintId(sprint.getId());
+        event.setName(sprint.getName());
+        event.setStatus(sprint.getStatus() != null ? sprint.getStatus().name() : null);
+        event.setProgress(sprint.getProgress());
+        event.setStartDate(sprint.getStartDate());
+        event.setEndDate(sprint.getEndDate());
+        return event;
+    }
+    
+    public static SprintBoardEvent forRollup(SprintRollup rollup) {
+        SprintBoardEvent event = new SprintBoardEvent();
+        event.setType(SPRINT_PROGRESS);
+        event.setCompanyId(rollup.getCompanyId());
+        event.setSprintId(rollup.getSprintId());
+        event.setProgress(rollup.getProgress());
+        event.setTotalPoints(rollup.getTotalPoints());
+        event.setCompletedPoints(rollup.getCompletedPoints());
+        return event;
+    }
+}
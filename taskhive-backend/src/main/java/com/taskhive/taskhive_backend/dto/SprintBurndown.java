@@ -0,0 +1,15 @@
+package com.taskhive.taskhive_backend.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Burndown (remainingPoints) and burnup (completedPoints against totalPoints) series of a sprint;
+// committedPoints is the scope when the sprint started, for the ideal line
+public record SprintBurndown(
+    Long sprintId,
+    LocalDate startDate,
+    LocalDate endDate,
+    long committedPoints,
+    List<BurndownPoint> points
+) {
+}
@@ -0,0 +1,8 @@
+package com.taskhive.taskhive_backend.dto;
+
+import com.taskhive.taskhive_backend.model.Sprint;
+
+public interface SprintStatusCount {
+    Sprint.Status getStatus();
+    Long getSprintCount();
+}
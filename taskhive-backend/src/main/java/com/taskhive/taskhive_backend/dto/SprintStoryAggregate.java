@@ -0,0 +1,8 @@
+package com.taskhive.taskhive_backend.dto;
+
+public interface SprintStoryAggregate {
+    Long getSprintId();
+    String getStatus();
+    Long getStoryCount();
+    Long getStoryPoints();
+}
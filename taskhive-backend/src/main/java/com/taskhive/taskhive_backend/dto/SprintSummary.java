@@ -0,0 +1,20 @@
+package com.taskhive.taskhive_backend.dto;
+
+import com.taskhive.taskhive_backend.model.Sprint;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record SprintSummary(
+    Long id,
+    String sprintId,
+    String name,
+    String description,
+    LocalDate startDate,
+    LocalDate endDate,
+    Sprint.Status status,
+    Integer progress,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.taskhive.taskhive_backend.dto;
+
+public interface StoryAggregate {
+    String getStatus();
+    String getType();
+    Long getStoryCount();
+    Long getStoryPoints();
+}
@@ -0,0 +1,11 @@
+package com.taskhive.taskhive_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class StoryImportError {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,15 @@
+package com.taskhive.taskhive_backend.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class StoryImportResult {
+    private long imported;
+    private long failed;
+    // Only the first taskhive.import.max-reported-errors errors are listed
+    private List<StoryImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+}
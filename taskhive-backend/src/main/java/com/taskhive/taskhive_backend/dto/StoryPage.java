@@ -0,0 +1,13 @@
+package com.taskhive.taskhive_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class StoryPage {
+    private List<StorySummary> items;
+    private String nextCursor;
+}
@@ -0,0 +1,39 @@
+package com.taskhive.taskhive_backend.dto;
+
+import com.taskhive.taskhive_backend.model.Story;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// List read model for stories. Keeps every field the edit forms send back on update
+public record StorySummary(
+    Long id,
+    String storyId,
+    String title,
+    String description,
+    String type,
+    String priority,
+    String status,
+    Long assigneeId,
+    String assigneeName,
+    Integer storyPoints,
+    Integer progress,
+    LocalDate deadline,
+    String acceptanceCriteria,
+    Long sprintId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    // JPQL constructor expression selecting the fields above, in order, from alias s
+    public static final String SELECT = "SELECT new com.taskhive.taskhive_backend.dto.StorySummary(" +
+        "s.id, s.storyId, s.title, s.description, s.type, s.priority, s.status, s.assigneeId, " +
+        "s.assigneeName, s.storyPoints, s.progress, s.deadline, s.acceptanceCriteria, s.sprintId, " +
+        "s.createdAt, s.updatedAt) FROM Story s ";
+    
+    public static StorySummary from(Story story) {
+        return new StorySummary(story.getId(), story.getStoryId(), story.getTitle(), story.getDescription(),
+            story.getType(), story.getPriority(), story.getStatus(), story.getAssigneeId(),
+            story.getAssigneeName(), story.getStoryPoints(), story.getProgress(), story.getDeadline(),
+            story.getAcceptanceCriteria(), story.getSprintId(), story.getCreatedAt(), story.getUpdatedAt());
+    }
+}
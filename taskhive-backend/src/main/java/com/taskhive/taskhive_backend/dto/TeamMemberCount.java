@@ -0,0 +1,6 @@
+package com.taskhive.taskhive_backend.dto;
+
+public interface TeamMemberCount {
+    Long getTeamId();
+    Long getMemberCount();
+}
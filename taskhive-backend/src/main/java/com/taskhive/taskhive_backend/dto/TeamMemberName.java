@@ -0,0 +1,6 @@
+package com.taskhive.taskhive_backend.dto;
+
+public interface TeamMemberName {
+    Long getTeamId();
+    String getName();
+}
@@ -0,0 +1,6 @@
+package com.taskhive.taskhive_backend.dto;
+
+public interface TeamName {
+    Long getId();
+    String getName();
+}
@@ -1,5 +1,6 @@
 package com.taskhive.taskhive_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,7 +10,9 @@ public class TeamResponse {
     private Long id;
     private String name;
     private String description;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<String> members;
+    private Integer memberCount;
     private LocalDateTime createdAt;
     
     public TeamResponse(Long id, String name, String description, List<String> members, LocalDateTime createdAt) {
@@ -17,6 +20,15 @@ public class TeamResponse {
         this.name = name;
         this.description = description;
         this.members = members;
+        this.memberCount = members.size();
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+    
+    public TeamResponse(Long id, String name, String description, int memberCount, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.memberCount = memberCount;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskhive.taskhive_backend.dto;
+
+import java.time.LocalDateTime;
+
+public record TeamSummary(
+    Long id,
+    String name,
+    String description,
+    LocalDateTime createdAt
+) {
+}
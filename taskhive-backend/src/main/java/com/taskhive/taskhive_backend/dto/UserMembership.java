@@ -0,0 +1,7 @@
+package com.taskhive.taskhive_backend.dto;
+
+public interface UserMembership {
+    Long getId();
+    String getName();
+    Long getTeamId();
+}
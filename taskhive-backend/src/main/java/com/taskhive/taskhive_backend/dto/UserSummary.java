@@ -0,0 +1,26 @@
+package com.taskhive.taskhive_backend.dto;
+
+import com.taskhive.taskhive_backend.model.User;
+
+import java.time.LocalDateTime;
+
+// List read model for users: no company, password or reset token
+public record UserSummary(
+    Long id,
+    String employeeId,
+    String name,
+    String email,
+    String designation,
+    User.JobRole jobRole,
+    Long teamId,
+    User.Role role,
+    User.Status status,
+    LocalDateTime createdAt
+) {
+    
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getId(), user.getEmployeeId(), user.getName(), user.getEmail(),
+            user.getDesignation(), user.getJobRole(), user.getTeamId(), user.getRole(), user.getStatus(),
+            user.getCreatedAt());
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskhive.taskhive_backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "collection_versions")
+@IdClass(CollectionVersion.Key.class)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionVersion {
+    
+    @Id
+    @Column(name = "company_id")
+    private Long companyId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "collection", length = 20)
+    private Kind collection;
+    
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    public enum Kind {
+        STORIES, SPRINTS, TEAMS, USERS
+    }
+    
+    // Rows are identified by their key; version changes on every write to the collection
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof CollectionVersion other && companyId != null && collection != null
+            && companyId.equals(other.getCompanyId()) && collection == other.getCollection();
+    }
+    
+    @Override
+    public int hashCode() {
+        return CollectionVersion.class.hashCode();
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable, Comparable<Key> {
+        private Long companyId;
+        private Kind collection;
+        
+        @Override
+        public int compareTo(Key other) {
+            int byCompany = companyId.compareTo(other.companyId);
+            return byCompany != 0 ? byCompany : collection.compareTo(other.collection);
+        }
+    }
+}
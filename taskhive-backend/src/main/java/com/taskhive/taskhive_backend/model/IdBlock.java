@@ -0,0 +1,68 @@
+package com.taskhive.taskhive_backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "id_blocks")
+@IdClass(IdBlock.Key.class)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdBlock {
+    
+    @Id
+    @Column(name = "company_id")
+    private Long companyId;
+    
+    @Id
+    @Column(name = "sequence_name", length = 30)
+    private String sequenceName;
+    
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public IdBlock(Long companyId, String sequenceName, Long nextValue) {
+        this.companyId = companyId;
+        this.sequenceName = sequenceName;
+        this.nextValue = nextValue;
+    }
+    
+    // Rows are identified by their key; nextValue and updatedAt change on every allocation
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof IdBlock other && companyId != null && sequenceName != null
+            && companyId.equals(other.getCompanyId()) && sequenceName.equals(other.getSequenceName());
+    }
+    
+    @Override
+    public int hashCode() {
+        return IdBlock.class.hashCode();
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long companyId;
+        private String sequenceName;
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskhive.taskhive_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// One row per running instance, written to the primary by ReplicaLagMonitor and read back
+// from the replica to measure how far replication trails
+@Entity
+@Table(name = "replica_heartbeats")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ReplicaHeartbeat {
+    
+    @Id
+    @Column(name = "instance_id", length = 36)
+    private String instanceId;
+    
+    @Column(name = "beat_at", nullable = false)
+    private LocalDateTime beatAt;
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ReplicaHeartbeat other && instanceId != null && instanceId.equals(other.getInstanceId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return ReplicaHeartbeat.class.hashCode();
+    }
+}
@@ -1,10 +1,13 @@
 package com.taskhive.taskhive_backend.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,7 +17,9 @@ import java.util.List;
 
 @Entity
 @Table(name = "sprints")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Sprint {
@@ -23,6 +28,7 @@ public class Sprint {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
     @JsonIgnore
@@ -47,9 +53,12 @@ public class Sprint {
     @Column(nullable = false, length = 20)
     private Status status = Status.PLANNING;
     
+    // Mirrors the sprint's rollup (SprintRollupService); clients cannot set it
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     @Column(name = "progress")
     private Integer progress = 0;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "sprintId", fetch = FetchType.LAZY)
     @JsonIgnore
     private List<Story> stories;
@@ -62,6 +71,19 @@ public class Sprint {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Sprint other && id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Sprint.class.hashCode();
+    }
+    
     public enum Status {
         PLANNING, ACTIVE, COMPLETED
     }
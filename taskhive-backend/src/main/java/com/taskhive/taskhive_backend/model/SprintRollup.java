@@ -0,0 +1,151 @@
+package com.taskhive.taskhive_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// Story counts and points of one sprint, kept current by SprintRollupService in the same
+// transaction as the story change. Statuses outside the four known ones only count in storyCount.
+@Entity
+@Table(name = "sprint_rollups", indexes = {
+    @Index(name = "idx_sprint_rollups_company_id", columnList = "company_id")
+})
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class SprintRollup {
+    
+    public static final String PENDING = "Pending";
+    public static final String IN_PROGRESS = "In Progress";
+    public static final String COMPLETED = "Completed";
+    public static final String OVERDUE = "Overdue";
+    
+    @Id
+    @Column(name = "sprint_id")
+    private Long sprintId;
+    
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+    
+    @Column(name = "story_count", nullable = false)
+    private long storyCount;
+    
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+    
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+    
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+    
+    @Column(name = "overdue_count", nullable = false)
+    private long overdueCount;
+    
+    @Column(name = "total_points", nullable = false)
+    private long totalPoints;
+    
+    // Points in the sprint when it started; follows totalPoints until then
+    @Column(name = "committed_points", nullable = false)
+    private long committedPoints;
+    
+    @Column(name = "completed_points", nullable = false)
+    private long completedPoints;
+    
+    @Column(name = "committed_at")
+    private LocalDateTime committedAt;
+    
+    @Column(nullable = false)
+    private int progress;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public SprintRollup(Long sprintId, Long companyId) {
+        this.sprintId = sprintId;
+        this.companyId = companyId;
+    }
+    
+    public void addStory(String status, Integer storyPoints) {
+        add(status, 1, storyPoints == null ? 0 : storyPoints);
+    }
+    
+    public void removeStory(String status, Integer storyPoints) {
+        add(status, -1, storyPoints == null ? 0 : -storyPoints);
+    }
+    
+    // stories and points are negative when stories leave the sprint
+    public void add(String status, long stories, long points) {
+        storyCount += stories;
+        totalPoints += points;
+        if (committedAt == null) {
+            committedPoints += points;
+        }
+        if (PENDING.equals(status)) {
+            pendingCount += stories;
+        } else if (IN_PROGRESS.equals(status)) {
+            inProgressCount += stories;
+        } else if (COMPLETED.equals(status)) {
+            completedCount += stories;
+            completedPoints += points;
+        } else if (OVERDUE.equals(status)) {
+            overdueCount += stories;
+        }
+        // By points when the sprint is estimated, otherwise by completed stories
+        if (totalPoints > 0) {
+            progress = (int) (completedPoints * 100 / totalPoints);
+        } else {
+            progress = storyCount > 0 ? (int) (completedCount * 100 / storyCount) : 0;
+        }
+    }
+    
+    // Freezes committedPoints at the current scope
+    public void commit(LocalDateTime at) {
+        if (committedAt == null) {
+            committedAt = at;
+            committedPoints = totalPoints;
+        }
+    }
+    
+    public void resetCounts() {
+        storyCount = 0;
+        pendingCount = 0;
+        inProgressCount = 0;
+        completedCount = 0;
+        overdueCount = 0;
+        totalPoints = 0;
+        completedPoints = 0;
+        progress = 0;
+        if (committedAt == null) {
+            committedPoints = 0;
+        }
+    }
+    
+    public boolean sameCountsAs(SprintRollup other) {
+        return storyCount == other.storyCount && pendingCount == other.pendingCount
+            && inProgressCount == other.inProgressCount && completedCount == other.completedCount
+            && overdueCount == other.overdueCount && totalPoints == other.totalPoints
+            && completedPoints == other.completedPoints && progress == other.progress
+            && (committedAt != null || committedPoints == other.committedPoints);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof SprintRollup other && sprintId != null && sprintId.equals(other.getSprintId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return SprintRollup.class.hashCode();
+    }
+}
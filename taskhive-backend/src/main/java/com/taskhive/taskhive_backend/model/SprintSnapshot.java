@@ -0,0 +1,68 @@
+package com.taskhive.taskhive_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// One point of a sprint's burndown: written on every rollup change and at a fixed interval for
+// active sprints, never updated. Old points are compacted to one per day (SprintBurndownService).
+@Entity
+@Table(name = "sprint_snapshots", indexes = {
+    @Index(name = "idx_sprint_snapshots_sprint_id_captured_at", columnList = "sprint_id, captured_at")
+})
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class SprintSnapshot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "sprint_id", nullable = false)
+    private Long sprintId;
+    
+    @Column(name = "captured_at", nullable = false)
+    private LocalDateTime capturedAt;
+    
+    @Column(name = "total_points", nullable = false)
+    private int totalPoints;
+    
+    @Column(name = "completed_points", nullable = false)
+    private int completedPoints;
+    
+    @Column(name = "story_count", nullable = false)
+    private int storyCount;
+    
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+    
+    public static SprintSnapshot of(SprintRollup rollup, LocalDateTime capturedAt) {
+        SprintSnapshot snapshot = new SprintSnapshot();
+        snapshot.setSprintId(rollup.getSprintId());
+        snapshot.setCapturedAt(capturedAt);
+        snapshot.setTotalPoints(Math.toIntExact(rollup.getTotalPoints()));
+        snapshot.setCompletedPoints(Math.toIntExact(rollup.getCompletedPoints()));
+        snapshot.setStoryCount(Math.toIntExact(rollup.getStoryCount()));
+        snapshot.setCompletedCount(Math.toIntExact(rollup.getCompletedCount()));
+        return snapshot;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof SprintSnapshot other && id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return SprintSnapshot.class.hashCode();
+    }
+}
@@ -3,17 +3,27 @@ package com.taskhive.taskhive_backend.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+// Partitioned by company_id on PostgreSQL (V13), so keys include it: story ids are unique per company
 @Entity
-@Table(name = "stories")
-@Data
+@Table(name = "stories", uniqueConstraints = {
+    @UniqueConstraint(name = "stories_company_id_story_id_key", columnNames = {"company_id", "story_id"})
+}, indexes = {
+    @Index(name = "idx_stories_company_id_id", columnList = "company_id, id"),
+    @Index(name = "idx_stories_deadline_status", columnList = "deadline, status")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Story {
@@ -22,12 +32,13 @@ public class Story {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
     @JsonIgnore
     private Company company;
     
-    @Column(name = "story_id", unique = true, nullable = false, length = 20)
+    @Column(name = "story_id", nullable = false, length = 20)
     private String storyId;
     
     @Column(nullable = false, length = 200)
@@ -76,4 +87,18 @@ public class Story {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    
+    // Identity equality so entities behave in sets and across Hibernate proxies
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Story other && id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Story.class.hashCode();
+    }
 }
\ No newline at end of file
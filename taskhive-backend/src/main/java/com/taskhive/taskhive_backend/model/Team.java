@@ -3,8 +3,10 @@ package com.taskhive.taskhive_backend.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,7 +15,9 @@ import java.util.List;
 
 @Entity
 @Table(name = "teams")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Team {
@@ -22,6 +26,7 @@ public class Team {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
     @JsonIgnore
@@ -33,6 +38,7 @@ public class Team {
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "teamId", fetch = FetchType.LAZY)
     @JsonIgnore
     private List<User> members;
@@ -44,4 +50,17 @@ public class Team {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Team other && id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Team.class.hashCode();
+    }
 }
\ No newline at end of file
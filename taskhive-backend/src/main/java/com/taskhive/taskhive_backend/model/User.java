@@ -1,18 +1,26 @@
 package com.taskhive.taskhive_backend.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
-@Data
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_company_id_team_id", columnList = "company_id, team_id"),
+    @Index(name = "idx_users_company_id_name", columnList = "company_id, name")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
@@ -22,6 +30,7 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
@@ -36,6 +45,8 @@ public class User {
     @Column(unique = true, nullable = false, length = 100)
     private String email;
     
+    @ToString.Exclude
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Column(length = 255)
     private String password;
     
@@ -57,6 +68,8 @@ public class User {
     @Column(length = 20)
     private Status status = Status.PENDING;
     
+    @ToString.Exclude
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Column(name = "password_reset_token", length = 255)
     private String passwordResetToken;
     
@@ -71,6 +84,19 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof User other && id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return User.class.hashCode();
+    }
+    
     public enum JobRole {
         UI, BE, QA, DevOps
     }
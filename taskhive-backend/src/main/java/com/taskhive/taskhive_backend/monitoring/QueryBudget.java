@@ -0,0 +1,16 @@
+package com.taskhive.taskhive_backend.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Maximum number of SQL statements a handler method may issue before its response body is
+// written. Exceeding it is logged and counted; with taskhive.sql.budget-enforce=true (used by
+// integration test runs) the request fails with QueryBudgetExceededException instead.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    
+    int value();
+}
@@ -0,0 +1,65 @@
+package com.taskhive.taskhive_backend.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Runs after the handler and before its body is serialized, so the count here covers the
+// handler's own statements; lazy loads during serialization are only in the filter's metric.
+@ControllerAdvice
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetAdvice implements ResponseBodyAdvice<Object> {
+    
+    public static final String STATEMENT_COUNT_HEADER = "X-Statement-Count";
+    
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${taskhive.sql.count-header-enabled:false}")
+    private boolean countHeaderEnabled;
+    
+    @Value("${taskhive.sql.budget-enforce:false}")
+    private boolean budgetEnforce;
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return countHeaderEnabled || returnType.hasMethodAnnotation(QueryBudget.class);
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StatementCounter.Scope scope = statementCounter.current();
+        if (scope == null) {
+            return body;
+        }
+        if (countHeaderEnabled) {
+            response.getHeaders().set(STATEMENT_COUNT_HEADER, String.valueOf(scope.total()));
+        }
+        QueryBudget budget = returnType.getMethodAnnotation(QueryBudget.class);
+        if (budget != null && scope.total() > budget.value()) {
+            String handler = returnType.getContainingClass().getSimpleName() + "." + returnType.getMethod().getName();
+            Counter.builder("taskhive.sql.budget.exceeded")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .increment();
+            String message = handler + " issued " + scope.total() + " SQL statements, budget is " + budget.value();
+            if (budgetEnforce) {
+                throw new QueryBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskhive.taskhive_backend.monitoring;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
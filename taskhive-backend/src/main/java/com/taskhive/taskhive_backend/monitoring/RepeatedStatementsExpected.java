@@ -0,0 +1,13 @@
+package com.taskhive.taskhive_backend.monitoring;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks handlers that repeat statements per batch by design (bulk endpoints), so the
+// statement counting filter does not report them as N+1. They are still counted.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RepeatedStatementsExpected {
+}
@@ -0,0 +1,66 @@
+package com.taskhive.taskhive_backend.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Hibernate calls inspect() for every SQL statement it prepares. While a scope is open on the
+// current thread (one per HTTP request) the statement is counted, grouped by its shape so
+// loops issuing the same query can be spotted. Outside a scope this is a no-op.
+public class StatementCounter implements StatementInspector {
+    
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+    
+    @Override
+    public String inspect(String sql) {
+        Scope scope = current.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+    
+    public Scope begin() {
+        Scope scope = new Scope();
+        current.set(scope);
+        return scope;
+    }
+    
+    public void end() {
+        current.remove();
+    }
+    
+    public Scope current() {
+        return current.get();
+    }
+    
+    public static class Scope {
+        
+        private int total;
+        private final Map<String, Integer> byShape = new HashMap<>();
+        
+        void record(String sql) {
+            total++;
+            byShape.merge(shape(sql), 1, Integer::sum);
+        }
+        
+        public int total() {
+            return total;
+        }
+        
+        public Map<String, Integer> byShape() {
+            return byShape;
+        }
+        
+        // Bind parameters are already '?'; IN lists of any length collapse to one shape
+        private static String shape(String sql) {
+            String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+            return IN_LIST.matcher(collapsed).replaceAll("(?)");
+        }
+    }
+}
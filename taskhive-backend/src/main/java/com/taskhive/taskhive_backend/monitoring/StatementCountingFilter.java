@@ -0,0 +1,74 @@
+package com.taskhive.taskhive_backend.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+// Opens a statement counting scope per API request, records the total as a distribution
+// per endpoint and warns when one statement shape repeats often enough to look like N+1.
+@Slf4j
+public class StatementCountingFilter extends OncePerRequestFilter {
+    
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int repeatedStatementThreshold;
+    
+    public StatementCountingFilter(StatementCounter statementCounter, MeterRegistry meterRegistry,
+                                   int repeatedStatementThreshold) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementCounter.Scope scope = statementCounter.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statementCounter.end();
+            record(request, scope);
+        }
+    }
+    
+    private void record(HttpServletRequest request, StatementCounter.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("taskhive.sql.statements")
+            .description("SQL statements issued per HTTP request")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(scope.total());
+        
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod
+                && handlerMethod.hasMethodAnnotation(RepeatedStatementsExpected.class)) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : scope.byShape().entrySet()) {
+            if (entry.getValue() > repeatedStatementThreshold) {
+                log.warn("Possible N+1 in {} {}: statement repeated {} times: {}",
+                    request.getMethod(), uri, entry.getValue(), entry.getKey());
+            }
+        }
+    }
+    
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // Counted on the initial dispatch only
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskhive.taskhive_backend.repository;
+
+import com.taskhive.taskhive_backend.model.CollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, CollectionVersion.Key> {
+    
+    List<CollectionVersion> findByCompanyId(Long companyId);
+    
+    @Query("SELECT v FROM CollectionVersion v WHERE v.companyId = " +
+           "(SELECT s.company.id FROM Sprint s WHERE s.id = :sprintId)")
+    List<CollectionVersion> findBySprintId(@Param("sprintId") Long sprintId);
+}
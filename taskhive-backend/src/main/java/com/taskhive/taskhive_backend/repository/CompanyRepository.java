@@ -2,8 +2,10 @@ package com.taskhive.taskhive_backend.repository;
 
 import com.taskhive.taskhive_backend.model.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +18,9 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     boolean existsByCode(String code);
     
     boolean existsByName(String name);
+    
+    Optional<Company> findFirstByOrderByIdAsc();
+    
+    @Query("SELECT c.id FROM Company c ORDER BY c.id")
+    List<Long> findAllIds();
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.taskhive.taskhive_backend.repository;
+
+import com.taskhive.taskhive_backend.model.IdBlock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IdBlockRepository extends JpaRepository<IdBlock, IdBlock.Key> {
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM IdBlock b WHERE b.companyId = :companyId AND b.sequenceName = :sequenceName")
+    Optional<IdBlock> findForUpdate(@Param("companyId") Long companyId,
+                                    @Param("sequenceName") String sequenceName);
+}
@@ -1,15 +1,63 @@
 package com.taskhive.taskhive_backend.repository;
 
+import com.taskhive.taskhive_backend.dto.SprintStatusCount;
+import com.taskhive.taskhive_backend.dto.SprintSummary;
 import com.taskhive.taskhive_backend.model.Sprint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
     List<Sprint> findByCompanyId(Long companyId);
     Optional<Sprint> findBySprintId(String sprintId);
-    Optional<Sprint> findByCompanyIdAndStatus(Long companyId, Sprint.Status status);
+    
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Sprint s")
+    Long findMaxId();
+    
+    @Query("SELECT s.id FROM Sprint s WHERE s.company.id = :companyId")
+    List<Long> findIdsByCompanyId(@Param("companyId") Long companyId);
+    
+    // Server-side cursor for exports; must be consumed inside a transaction. The date bounds are
+    // always set (PostgreSQL cannot type a null date parameter in ":x IS NULL")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT s FROM Sprint s WHERE s.company.id = :companyId " +
+           "AND s.startDate >= :startFrom AND s.startDate <= :startTo " +
+           "ORDER BY s.id")
+    Stream<Sprint> streamForExport(@Param("companyId") Long companyId,
+                                   @Param("startFrom") LocalDate startFrom,
+                                   @Param("startTo") LocalDate startTo);
+    
+    @Query("SELECT s.status AS status, COUNT(s) AS sprintCount FROM Sprint s " +
+           "WHERE s.company.id = :companyId GROUP BY s.status")
+    List<SprintStatusCount> countByStatus(@Param("companyId") Long companyId);
+    
+    @Query("SELECT new com.taskhive.taskhive_backend.dto.SprintSummary(s.id, s.sprintId, s.name, s.description, " +
+           "s.startDate, s.endDate, s.status, s.progress, s.createdAt, s.updatedAt) " +
+           "FROM Sprint s WHERE s.company.id = :companyId ORDER BY s.id")
+    List<SprintSummary> findSummariesByCompanyId(@Param("companyId") Long companyId);
+    
+    @Query("SELECT new com.taskhive.taskhive_backend.dto.SprintSummary(s.id, s.sprintId, s.name, s.description, " +
+           "s.startDate, s.endDate, s.status, s.progress, s.createdAt, s.updatedAt) " +
+           "FROM Sprint s WHERE s.company.id = :companyId AND s.status = :status")
+    Optional<SprintSummary> findSummaryByCompanyIdAndStatus(@Param("companyId") Long companyId,
+                                                            @Param("status") Sprint.Status status);
+    
+    // Progress is derived from the sprint's rollup; only written when the percentage moves
+    @Modifying
+    @Query("UPDATE Sprint s SET s.progress = :progress, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.id = :id AND (s.progress IS NULL OR s.progress <> :progress)")
+    int updateProgress(@Param("id") Long id, @Param("progress") int progress);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.taskhive.taskhive_backend.repository;
+
+import com.taskhive.taskhive_backend.model.SprintRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SprintRollupRepository extends JpaRepository<SprintRollup, Long> {
+    
+    List<SprintRollup> findByCompanyId(Long companyId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SprintRollup r WHERE r.sprintId = :sprintId")
+    Optional<SprintRollup> findForUpdate(@Param("sprintId") Long sprintId);
+}
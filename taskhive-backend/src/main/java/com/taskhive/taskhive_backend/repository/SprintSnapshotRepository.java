@@ -0,0 +1,42 @@
+package com.taskhive.taskhive_backend.repository;
+
+import com.taskhive.taskhive_backend.dto.BurndownPoint;
+import com.taskhive.taskhive_backend.model.SprintSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SprintSnapshotRepository extends JpaRepository<SprintSnapshot, Long> {
+    
+    // Range scan on (sprint_id, captured_at)
+    @Query("SELECT new com.taskhive.taskhive_backend.dto.BurndownPoint(s.capturedAt, s.totalPoints, " +
+           "s.completedPoints, s.storyCount, s.completedCount) " +
+           "FROM SprintSnapshot s WHERE s.sprintId = :sprintId ORDER BY s.capturedAt")
+    List<BurndownPoint> findSeries(@Param("sprintId") Long sprintId);
+    
+    // Interval points for every active sprint in one statement, straight from the rollups
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO sprint_snapshots (sprint_id, captured_at, total_points, completed_points, " +
+                   "story_count, completed_count) " +
+                   "SELECT r.sprint_id, :capturedAt, r.total_points, r.completed_points, r.story_count, r.completed_count " +
+                   "FROM sprint_rollups r JOIN sprints s ON s.id = r.sprint_id WHERE s.status = 'ACTIVE'",
+           nativeQuery = true)
+    int captureActiveSprints(@Param("capturedAt") LocalDateTime capturedAt);
+    
+    @Query("SELECT DISTINCT s.sprintId FROM SprintSnapshot s WHERE s.capturedAt < :cutoff")
+    List<Long> findSprintIdsCapturedBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    List<SprintSnapshot> findBySprintIdAndCapturedAtBeforeOrderByCapturedAt(Long sprintId, LocalDateTime cutoff);
+    
+    @Modifying
+    @Query("DELETE FROM SprintSnapshot s WHERE s.sprintId = :sprintId")
+    int deleteBySprintId(@Param("sprintId") Long sprintId);
+}
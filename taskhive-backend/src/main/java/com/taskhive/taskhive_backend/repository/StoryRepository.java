@@ -1,11 +1,29 @@
 package com.taskhive.taskhive_backend.repository;
 
+import com.taskhive.taskhive_backend.dto.SprintStoryAggregate;
+import com.taskhive.taskhive_backend.dto.StoryAggregate;
+import com.taskhive.taskhive_backend.dto.StorySummary;
 import com.taskhive.taskhive_backend.model.Story;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface StoryRepository extends JpaRepository<Story, Long> {
@@ -14,4 +32,89 @@ public interface StoryRepository extends JpaRepository<Story, Long> {
     List<Story> findBySprintId(Long sprintId);
     Optional<Story> findByStoryId(String storyId);
     List<Story> findByCompanyIdAndSprintIdIsNull(Long companyId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // By (company_id, id), so PostgreSQL only looks in the company's partition
+    @Query("SELECT s FROM Story s WHERE s.company.id = :companyId AND s.id = :id")
+    Optional<Story> findForUpdate(@Param("companyId") Long companyId, @Param("id") Long id);
+    
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Story s")
+    Long findMaxId();
+    
+    // Stories are partitioned by company (V13). Sprint-scoped reads also match the sprint's
+    // company, which the executor resolves first, so only that company's partition is scanned
+    String IN_SPRINT = "s.company.id = (SELECT sp.company.id FROM Sprint sp WHERE sp.id = :sprintId) " +
+                       "AND s.sprintId = :sprintId ";
+    
+    // List read models: constructor projections, so no entities are hydrated or tracked
+    @Query(StorySummary.SELECT + "WHERE s.company.id = :companyId " +
+           "AND (:type IS NULL OR s.type = :type) ORDER BY s.id")
+    List<StorySummary> findSummariesByCompanyId(@Param("companyId") Long companyId, @Param("type") String type);
+    
+    @Query(StorySummary.SELECT + "WHERE " + IN_SPRINT + "ORDER BY s.id")
+    List<StorySummary> findSummariesBySprintId(@Param("sprintId") Long sprintId);
+    
+    @Query(StorySummary.SELECT + "WHERE s.company.id = :companyId AND s.id > :afterId " +
+           "AND (:type IS NULL OR s.type = :type) " +
+           "AND (:status IS NULL OR s.status = :status) " +
+           "AND (:sprintId IS NULL OR s.sprintId = :sprintId) " +
+           "ORDER BY s.id")
+    List<StorySummary> findPageByCompanyId(@Param("companyId") Long companyId,
+                                    @Param("afterId") Long afterId,
+                                    @Param("type") String type,
+                                    @Param("status") String status,
+                                    @Param("sprintId") Long sprintId,
+                                    Pageable pageable);
+    
+    // Server-side cursor for exports; must be consumed inside a transaction. The date bounds are
+    // always set (PostgreSQL cannot type a null timestamp parameter in ":x IS NULL")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT s FROM Story s WHERE s.company.id = :companyId " +
+           "AND (:type IS NULL OR s.type = :type) " +
+           "AND (:sprintId IS NULL OR s.sprintId = :sprintId) " +
+           "AND s.createdAt >= :createdFrom AND s.createdAt < :createdBefore " +
+           "ORDER BY s.id")
+    Stream<Story> streamForExport(@Param("companyId") Long companyId,
+                                  @Param("type") String type,
+                                  @Param("sprintId") Long sprintId,
+                                  @Param("createdFrom") LocalDateTime createdFrom,
+                                  @Param("createdBefore") LocalDateTime createdBefore);
+    
+    // Ranked full-text search over the trigger-maintained search_vector column (V8 migration).
+    // Only used on PostgreSQL; see StorySearchServiceImpl for the in-process fallback
+    @Query(value = "SELECT s.* FROM stories s, websearch_to_tsquery('english', :query) q " +
+                   "WHERE s.company_id = :companyId AND s.search_vector @@ q " +
+                   "ORDER BY ts_rank_cd(s.search_vector, q) DESC, s.id " +
+                   "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Story> searchRanked(@Param("companyId") Long companyId,
+                             @Param("query") String query,
+                             @Param("limit") int limit,
+                             @Param("offset") int offset);
+    
+    @Query("SELECT s.status AS status, s.type AS type, COUNT(s) AS storyCount, " +
+           "COALESCE(SUM(s.storyPoints), 0) AS storyPoints " +
+           "FROM Story s WHERE s.company.id = :companyId GROUP BY s.status, s.type")
+    List<StoryAggregate> aggregateByStatusAndType(@Param("companyId") Long companyId);
+    
+    // Sprint rollup sources: the company-wide form feeds reconciliation, the single-sprint form repairs
+    @Query("SELECT s.sprintId AS sprintId, s.status AS status, COUNT(s) AS storyCount, " +
+           "COALESCE(SUM(s.storyPoints), 0) AS storyPoints " +
+           "FROM Story s WHERE s.company.id = :companyId AND s.sprintId IS NOT NULL GROUP BY s.sprintId, s.status")
+    List<SprintStoryAggregate> aggregateBySprint(@Param("companyId") Long companyId);
+    
+    @Query("SELECT s.sprintId AS sprintId, s.status AS status, COUNT(s) AS storyCount, " +
+           "COALESCE(SUM(s.storyPoints), 0) AS storyPoints " +
+           "FROM Story s WHERE " + IN_SPRINT + "GROUP BY s.sprintId, s.status")
+    List<SprintStoryAggregate> aggregateForSprint(@Param("sprintId") Long sprintId);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE stories SET status = 'Overdue', updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE company_id = :companyId AND id IN (" +
+                   "SELECT id FROM stories WHERE company_id = :companyId AND deadline < :today " +
+                   "AND (status IS NULL OR status NOT IN ('Completed', 'Overdue')) " +
+                   "LIMIT :chunkSize)", nativeQuery = true)
+    int markOverdueChunk(@Param("companyId") Long companyId,
+                         @Param("today") LocalDate today,
+                         @Param("chunkSize") int chunkSize);
 }
\ No newline at end of file
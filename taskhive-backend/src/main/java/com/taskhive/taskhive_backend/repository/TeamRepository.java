@@ -1,7 +1,11 @@
 package com.taskhive.taskhive_backend.repository;
 
+import com.taskhive.taskhive_backend.dto.TeamName;
+import com.taskhive.taskhive_backend.dto.TeamSummary;
 import com.taskhive.taskhive_backend.model.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +13,11 @@ import java.util.List;
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
     List<Team> findByCompanyId(Long companyId);
+    
+    @Query("SELECT t.id AS id, t.name AS name FROM Team t WHERE t.company.id = :companyId ORDER BY t.id")
+    List<TeamName> findTeamNames(@Param("companyId") Long companyId);
+    
+    @Query("SELECT new com.taskhive.taskhive_backend.dto.TeamSummary(t.id, t.name, t.description, t.createdAt) " +
+           "FROM Team t WHERE t.company.id = :companyId ORDER BY t.id")
+    List<TeamSummary> findSummariesByCompanyId(@Param("companyId") Long companyId);
 }
\ No newline at end of file
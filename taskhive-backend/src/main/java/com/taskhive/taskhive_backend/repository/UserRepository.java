@@ -1,9 +1,17 @@
 package com.taskhive.taskhive_backend.repository;
 
+import com.taskhive.taskhive_backend.dto.TeamMemberCount;
+import com.taskhive.taskhive_backend.dto.TeamMemberName;
+import com.taskhive.taskhive_backend.dto.UserMembership;
+import com.taskhive.taskhive_backend.dto.UserSummary;
 import com.taskhive.taskhive_backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +33,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
     long countByCompanyId(Long companyId);
     
     List<User> findByTeamId(Long teamId);
+    
+    @Query("SELECT u.id FROM User u WHERE u.company.id = :companyId")
+    List<Long> findIdsByCompanyId(@Param("companyId") Long companyId);
+    
+    @Query("SELECT u.teamId AS teamId, u.name AS name FROM User u " +
+           "WHERE u.company.id = :companyId AND u.teamId IS NOT NULL ORDER BY u.teamId, u.id")
+    List<TeamMemberName> findTeamMemberNames(@Param("companyId") Long companyId);
+    
+    @Query("SELECT u.teamId AS teamId, COUNT(u) AS memberCount FROM User u " +
+           "WHERE u.company.id = :companyId AND u.teamId IS NOT NULL GROUP BY u.teamId")
+    List<TeamMemberCount> countTeamMembers(@Param("companyId") Long companyId);
+    
+    @Query("SELECT u.id AS id, u.name AS name, u.teamId AS teamId FROM User u " +
+           "WHERE u.company.id = :companyId AND (u.teamId = :teamId OR u.name IN :names) ORDER BY u.id")
+    List<UserMembership> findMembershipCandidates(@Param("companyId") Long companyId,
+                                                  @Param("teamId") Long teamId,
+                                                  @Param("names") Collection<String> names);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.teamId = :teamId, u.updatedAt = CURRENT_TIMESTAMP WHERE u.id IN :ids")
+    int assignTeam(@Param("teamId") Long teamId, @Param("ids") Collection<Long> ids);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.teamId = NULL, u.updatedAt = CURRENT_TIMESTAMP WHERE u.id IN :ids")
+    int clearTeam(@Param("ids") Collection<Long> ids);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.teamId = NULL, u.updatedAt = CURRENT_TIMESTAMP WHERE u.teamId = :teamId")
+    int clearTeamForAll(@Param("teamId") Long teamId);
+    
+    @Query("SELECT new com.taskhive.taskhive_backend.dto.UserSummary(u.id, u.employeeId, u.name, u.email, " +
+           "u.designation, u.jobRole, u.teamId, u.role, u.status, u.createdAt) " +
+           "FROM User u WHERE u.company.id = :companyId ORDER BY u.id")
+    List<UserSummary> findSummariesByCompanyId(@Param("companyId") Long companyId);
 }
\ No newline at end of file
@@ -0,0 +1,4 @@
+package com.taskhive.taskhive_backend.security;
+
+public record AuthenticatedUser(Long userId, Long companyId, String role, String name, String email) {
+}
@@ -0,0 +1,104 @@
+package com.taskhive.taskhive_backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class PasswordHashingService {
+    
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejections;
+    
+    public PasswordHashingService(BCryptPasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${taskhive.security.hashing.threads:0}") int threads,
+                                  @Value("${taskhive.security.hashing.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        // Fixed pool with a bounded queue; AbortPolicy turns saturation into an immediate rejection
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        
+        Gauge.builder("taskhive.password.hashing.queue.depth", executor, e -> e.getQueue().size())
+            .description("Hash/verify tasks waiting for a hashing thread")
+            .register(meterRegistry);
+        Gauge.builder("taskhive.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+            .register(meterRegistry);
+        this.hashTimer = Timer.builder("taskhive.password.hashing.duration").tag("operation", "encode")
+            .publishPercentileHistogram().register(meterRegistry);
+        this.verifyTimer = Timer.builder("taskhive.password.hashing.duration").tag("operation", "matches")
+            .publishPercentileHistogram().register(meterRegistry);
+        this.rejections = Counter.builder("taskhive.password.hashing.rejected")
+            .description("Hash/verify tasks rejected because the queue was full")
+            .register(meterRegistry);
+        log.info("Password hashing executor: {} threads, queue capacity {}", poolSize, queueCapacity);
+    }
+    
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(() -> verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+    
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(() -> hashTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+    
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return join(matchesAsync(rawPassword, encodedPassword));
+    }
+    
+    public String encode(String rawPassword) {
+        return join(encodeAsync(rawPassword));
+    }
+    
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new PasswordHashingUnavailableException("Authentication is busy, please retry shortly");
+        }
+    }
+    
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskhive.taskhive_backend.security;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+    
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskhive.taskhive_backend.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "taskhive.auth.token")
+public class TokenProperties {
+    
+    // Key id used to sign new tokens; must be present in keys
+    private String activeKeyId;
+    
+    // All keys accepted for verification, by key id. Keep retired keys here until their tokens expire.
+    private Map<String, String> keys = new HashMap<>();
+    
+    private Duration ttl = Duration.ofHours(12);
+}
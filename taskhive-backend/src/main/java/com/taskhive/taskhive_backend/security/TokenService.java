@@ -0,0 +1,125 @@
+package com.taskhive.taskhive_backend.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskhive.taskhive_backend.model.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@Slf4j
+@EnableConfigurationProperties(TokenProperties.class)
+public class TokenService {
+    
+    private static final String ALGORITHM = "HmacSHA256";
+    // RFC 7518: an HS256 key is at least as long as the hash output
+    private static final int MIN_KEY_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    
+    private final ObjectMapper objectMapper;
+    private final TokenProperties properties;
+    private final Map<String, SecretKeySpec> keys = new HashMap<>();
+    
+    public TokenService(ObjectMapper objectMapper, TokenProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        properties.getKeys().forEach((keyId, secret) -> {
+            byte[] key = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+            if (key.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("Token key '" + keyId + "' must be at least " + MIN_KEY_BYTES +
+                    " bytes; set TASKHIVE_TOKEN_KEY_" + keyId.toUpperCase() + " or taskhive.auth.token.keys." + keyId);
+            }
+            keys.put(keyId, new SecretKeySpec(key, ALGORITHM));
+        });
+        if (!keys.containsKey(properties.getActiveKeyId())) {
+            throw new IllegalStateException("Active token key '" + properties.getActiveKeyId() + "' is not configured");
+        }
+    }
+    
+    public String issue(User user) {
+        Instant now = Instant.now();
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "HS256");
+        header.put("typ", "JWT");
+        header.put("kid", properties.getActiveKeyId());
+        
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", String.valueOf(user.getId()));
+        claims.put("cid", user.getCompany() != null ? user.getCompany().getId() : 1L);
+        claims.put("role", user.getRole().toString().toLowerCase());
+        claims.put("name", user.getName());
+        claims.put("email", user.getEmail());
+        claims.put("iat", now.getEpochSecond());
+        claims.put("exp", now.plus(properties.getTtl()).getEpochSecond());
+        
+        try {
+            String signingInput = ENCODER.encodeToString(objectMapper.writeValueAsBytes(header)) + "." +
+                                  ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return signingInput + "." + ENCODER.encodeToString(sign(keys.get(properties.getActiveKeyId()), signingInput));
+        } catch (Exception e) {
+            throw new RuntimeException("Could not issue token", e);
+        }
+    }
+    
+    // Verifies signature and expiry in memory; an empty result means the token is not usable
+    public Optional<AuthenticatedUser> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Object> header = readJson(parts[0]);
+            SecretKeySpec key = keys.get((String) header.get("kid"));
+            if (key == null || !"HS256".equals(header.get("alg"))) {
+                return Optional.empty();
+            }
+            byte[] expected = sign(key, parts[0] + "." + parts[1]);
+            if (!MessageDigest.isEqual(expected, DECODER.decode(parts[2]))) {
+                return Optional.empty();
+            }
+            
+            Map<String, Object> claims = readJson(parts[1]);
+            long expiresAt = ((Number) claims.get("exp")).longValue();
+            if (Instant.now().getEpochSecond() >= expiresAt) {
+                return Optional.empty();
+            }
+            return Optional.of(new AuthenticatedUser(
+                Long.valueOf((String) claims.get("sub")),
+                ((Number) claims.get("cid")).longValue(),
+                (String) claims.get("role"),
+                (String) claims.get("name"),
+                (String) claims.get("email")
+            ));
+        } catch (Exception e) {
+            log.debug("Rejected malformed token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    private Map<String, Object> readJson(String part) throws java.io.IOException {
+        return objectMapper.readValue(DECODER.decode(part), new TypeReference<Map<String, Object>>() {});
+    }
+    
+    private static byte[] sign(SecretKeySpec key, String input) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance(ALGORITHM);
+        mac.init(key);
+        return mac.doFinal(input.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.dto.DashboardStats;
+
+public interface AnalyticsService {
+    DashboardStats getDashboardStats(Long companyId, boolean includeBreakdown);
+}
@@ -0,0 +1,96 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.model.CollectionVersion;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.TreeSet;
+
+// Counts changes per company and collection (collection_versions) for ResourceVersionService.
+// Inside a transaction the increments are collected and written just before it commits, after
+// the pending entity changes are flushed, so they commit or roll back with the data and the
+// counter rows are always the last locks a writer takes. Outside a transaction (repository
+// saves that commit on their own) the counter is incremented right after the write.
+@Service
+@RequiredArgsConstructor
+public class CollectionVersionService {
+    
+    private static final String POSTGRES_UPSERT_SQL =
+        "INSERT INTO collection_versions (company_id, collection, version) VALUES (?, ?, 1) " +
+        "ON CONFLICT (company_id, collection) DO UPDATE SET version = collection_versions.version + 1";
+    
+    // H2 has no ON CONFLICT ... DO UPDATE
+    private static final String MERGE_SQL =
+        "MERGE INTO collection_versions v " +
+        "USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(20)))) k(company_id, collection) " +
+        "ON v.company_id = k.company_id AND v.collection = k.collection " +
+        "WHEN MATCHED THEN UPDATE SET version = v.version + 1 " +
+        "WHEN NOT MATCHED THEN INSERT (company_id, collection, version) VALUES (k.company_id, k.collection, 1)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    
+    private volatile String incrementSql;
+    
+    public void changed(Long companyId, CollectionVersion.Kind... collections) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            for (CollectionVersion.Kind collection : collections) {
+                increment(new CollectionVersion.Key(companyId, collection));
+            }
+            return;
+        }
+        PendingIncrements pending = pendingIncrements();
+        for (CollectionVersion.Kind collection : collections) {
+            pending.keys.add(new CollectionVersion.Key(companyId, collection));
+        }
+    }
+    
+    // Looked up among the current synchronizations rather than bound as a resource, so a
+    // suspended outer transaction keeps its own set
+    private PendingIncrements pendingIncrements() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingIncrements pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        PendingIncrements pending = new PendingIncrements();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+    
+    private void increment(CollectionVersion.Key key) {
+        jdbcTemplate.update(incrementSql(), key.getCompanyId(), key.getCollection().name());
+    }
+    
+    private String incrementSql() {
+        String sql = incrementSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            sql = "PostgreSQL".equals(product) ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+            incrementSql = sql;
+        }
+        return sql;
+    }
+    
+    private class PendingIncrements implements TransactionSynchronization {
+        
+        // Sorted, so two writers touching the same counters lock them in the same order
+        private final TreeSet<CollectionVersion.Key> keys = new TreeSet<>();
+        
+        CollectionVersionService owner() {
+            return CollectionVersionService.this;
+        }
+        
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            entityManager.flush();
+            keys.forEach(CollectionVersionService.this::increment);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskhive.taskhive_backend.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+// RFC 4180 writer, the counterpart of CsvReader. Fields containing commas, quotes or line
+// breaks are quoted; null is written as an empty field.
+public class CsvWriter {
+    
+    private final Writer writer;
+    
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+    
+    public void writeRow(List<?> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object field = fields.get(i);
+            if (field != null) {
+                writer.write(escape(field.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+    
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
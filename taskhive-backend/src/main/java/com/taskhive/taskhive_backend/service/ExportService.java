@@ -0,0 +1,168 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.repository.SprintRepository;
+import com.taskhive.taskhive_backend.repository.StoryRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// Constant-memory exports. Rows come from a read-only JPA Stream (server-side cursor with a
+// fetch size) and are written and detached one at a time, so neither the result list nor the
+// persistence context grows with the tenant. The body is written on the MVC async thread,
+// inside its own read-only transaction.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+    
+    private static final List<String> STORY_COLUMNS = List.of("id", "storyId", "title", "description", "type",
+        "priority", "status", "assigneeId", "assigneeName", "storyPoints", "progress", "deadline",
+        "acceptanceCriteria", "sprintId", "createdBy", "createdAt", "updatedAt");
+    
+    private static final List<String> SPRINT_COLUMNS = List.of("id", "sprintId", "name", "description",
+        "startDate", "endDate", "status", "progress", "createdAt", "updatedAt");
+    
+    // Open ends of the date filters
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+    
+    private final StoryRepository storyRepository;
+    private final SprintRepository sprintRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+        
+        private final MediaType mediaType;
+        private final String extension;
+        
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+        
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+        
+        public static Format parse(String value) {
+            return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Unsupported export format: " + value + " (use ndjson or csv)"));
+        }
+    }
+    
+    // createdFrom/createdTo are inclusive dates on createdAt
+    public StreamingResponseBody exportStories(Long companyId, String type, Long sprintId,
+                                               LocalDate createdFrom, LocalDate createdTo,
+                                               Format format, boolean gzip) {
+        return out -> inReadOnlyTransaction(() -> {
+            try (Stream<Story> stories = storyRepository.streamForExport(companyId, type, sprintId,
+                    (createdFrom != null ? createdFrom : MIN_DATE).atStartOfDay(),
+                    (createdTo != null ? createdTo.plusDays(1) : MAX_DATE).atStartOfDay())) {
+                long rows = write(out, stories, format, gzip, STORY_COLUMNS, story -> Arrays.asList(
+                    story.getId(), story.getStoryId(), story.getTitle(), story.getDescription(),
+                    story.getType(), story.getPriority(), story.getStatus(),
+                    story.getAssigneeId(), story.getAssigneeName(), story.getStoryPoints(),
+                    story.getProgress(), story.getDeadline(), story.getAcceptanceCriteria(),
+                    story.getSprintId(), story.getCreatedBy(), story.getCreatedAt(),
+                    story.getUpdatedAt()));
+                log.info("Exported {} stories for company {}", rows, companyId);
+            }
+        });
+    }
+    
+    // startFrom/startTo are inclusive dates on startDate
+    public StreamingResponseBody exportSprints(Long companyId, LocalDate startFrom, LocalDate startTo,
+                                               Format format, boolean gzip) {
+        return out -> inReadOnlyTransaction(() -> {
+            try (Stream<Sprint> sprints = sprintRepository.streamForExport(companyId,
+                    startFrom != null ? startFrom : MIN_DATE, startTo != null ? startTo : MAX_DATE)) {
+                long rows = write(out, sprints, format, gzip, SPRINT_COLUMNS, sprint -> Arrays.asList(
+                    sprint.getId(), sprint.getSprintId(), sprint.getName(), sprint.getDescription(),
+                    sprint.getStartDate(), sprint.getEndDate(), sprint.getStatus(), sprint.getProgress(),
+                    sprint.getCreatedAt(), sprint.getUpdatedAt()));
+                log.info("Exported {} sprints for company {}", rows, companyId);
+            }
+        });
+    }
+    
+    // Error body for a streaming endpoint, in the same shape as the other controllers' errors
+    public StreamingResponseBody errorBody(String message) {
+        return out -> objectMapper.writeValue(out, Map.of(
+            "success", false,
+            "message", message
+        ));
+    }
+    
+    private <T> long write(OutputStream out, Stream<T> rows, Format format, boolean gzip,
+                           List<String> columns, Function<T, List<Object>> csvRow) {
+        try {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 8192);
+            CsvWriter csv = new CsvWriter(writer);
+            if (format == Format.CSV) {
+                csv.writeRow(columns);
+            }
+            long count = 0;
+            for (T row : (Iterable<T>) rows::iterator) {
+                if (format == Format.CSV) {
+                    csv.writeRow(csvRow.apply(row));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                entityManager.detach(row);
+                count++;
+            }
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void inReadOnlyTransaction(Runnable work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> work.run());
+    }
+    
+    public static String filename(String entity, Long companyId, Format format, boolean gzip) {
+        return entity + "-" + companyId + "." + format.getExtension() + (gzip ? ".gz" : "");
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.model.IdBlock;
+import com.taskhive.taskhive_backend.repository.IdBlockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// Callers reserve numbers before opening their own transaction: a refill runs in a transaction
+// of its own, and inside the caller's it would hold a second pooled connection while the first
+// one waits. A ReentrantLock rather than synchronized, so virtual threads doing the refill's
+// JDBC do not pin their carrier.
+@Service
+@Slf4j
+public class IdAllocator {
+    
+    private final IdBlockRepository idBlockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    
+    private final ConcurrentHashMap<String, Block> blocks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ReentrantLock> refillLocks = new ConcurrentHashMap<>();
+    
+    public IdAllocator(IdBlockRepository idBlockRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${taskhive.id-allocator.block-size:50}") int blockSize) {
+        this.idBlockRepository = idBlockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.blockSize = blockSize;
+    }
+    
+    // Numbers come from an in-memory block; the id_blocks row is only locked when a block runs out.
+    // initialValue seeds the sequence the first time it is used for a company.
+    public long next(Long companyId, String sequenceName, LongSupplier initialValue) {
+        requireNoTransaction();
+        String key = companyId + ":" + sequenceName;
+        while (true) {
+            Block block = blocks.get(key);
+            if (block != null) {
+                long value = block.next.getAndIncrement();
+                if (value < block.limit) {
+                    return value;
+                }
+            }
+            ReentrantLock refillLock = refillLocks.computeIfAbsent(key, k -> new ReentrantLock());
+            refillLock.lock();
+            try {
+                // Another thread may have refilled while we waited for the lock
+                if (blocks.get(key) == block) {
+                    blocks.put(key, reserveBlock(companyId, sequenceName, initialValue));
+                }
+            } finally {
+                refillLock.unlock();
+            }
+        }
+    }
+    
+    // Reserves count consecutive numbers in one round trip and returns the first, for bulk inserts.
+    // The range comes straight from the id_blocks row, so it never overlaps the in-memory blocks.
+    public long allocateBlock(Long companyId, String sequenceName, int count, LongSupplier initialValue) {
+        requireNoTransaction();
+        return reserveBlock(companyId, sequenceName, initialValue, count).next.get();
+    }
+    
+    private static void requireNoTransaction() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Reserve ids before opening a transaction");
+        }
+    }
+    
+    private Block reserveBlock(Long companyId, String sequenceName, LongSupplier initialValue) {
+        return reserveBlock(companyId, sequenceName, initialValue, blockSize);
+    }
+    
+    private Block reserveBlock(Long companyId, String sequenceName, LongSupplier initialValue, int size) {
+        try {
+            return transactionTemplate.execute(status -> reserveBlockInTransaction(companyId, sequenceName, initialValue, size));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the sequence row first; it exists now, so lock and reserve again
+            log.debug("Concurrent creation of id sequence {} for company {}, retrying", sequenceName, companyId);
+            return transactionTemplate.execute(status -> reserveBlockInTransaction(companyId, sequenceName, initialValue, size));
+        }
+    }
+    
+    private Block reserveBlockInTransaction(Long companyId, String sequenceName, LongSupplier initialValue, int size) {
+        IdBlock row = idBlockRepository.findForUpdate(companyId, sequenceName)
+            .orElseGet(() -> new IdBlock(companyId, sequenceName, initialValue.getAsLong()));
+        long start = row.getNextValue();
+        row.setNextValue(start + size);
+        idBlockRepository.saveAndFlush(row);
+        return new Block(start, start + size);
+    }
+    
+    private static final class Block {
+        private final AtomicLong next;
+        private final long limit;
+        
+        private Block(long start, long limit) {
+            this.next = new AtomicLong(start);
+            this.limit = limit;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.taskhive.taskhive_backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// In-process inverted index over story title, description and acceptance criteria, used when
+// the database has no search_vector column (H2, or PostgreSQL before the V8 migration).
+// One index per company, rebuilt whenever the company's story count or latest updated_at moves,
+// so writes from any path (including JDBC imports) are picked up on the next search.
+// Matching is AND over the query words; there is no stemming, unlike the PostgreSQL path.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryStoryIndex {
+    
+    // Same relative weights as PostgreSQL's default A/B/C ranking weights
+    private static final float TITLE_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+    private static final float CRITERIA_WEIGHT = 0.2f;
+    
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by",
+        "for", "from", "in", "is", "it", "of", "on", "or", "the", "to", "with");
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private final ConcurrentHashMap<Long, CompanyIndex> indexes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Object> buildLocks = new ConcurrentHashMap<>();
+    
+    // Story ids for one page of matches, best match first (ties by id)
+    public List<Long> search(Long companyId, String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return currentIndex(companyId).search(terms, offset, limit);
+    }
+    
+    private CompanyIndex currentIndex(Long companyId) {
+        Stamp stamp = readStamp(companyId);
+        CompanyIndex index = indexes.get(companyId);
+        if (index != null && index.stamp.equals(stamp)) {
+            return index;
+        }
+        synchronized (buildLocks.computeIfAbsent(companyId, k -> new Object())) {
+            // Another search may have rebuilt it while we waited
+            index = indexes.get(companyId);
+            if (index == null || !index.stamp.equals(stamp)) {
+                index = build(companyId, stamp);
+                indexes.put(companyId, index);
+            }
+            return index;
+        }
+    }
+    
+    private Stamp readStamp(Long companyId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*), MAX(updated_at) FROM stories WHERE company_id = ?",
+            (rs, rowNum) -> new Stamp(rs.getLong(1), rs.getTimestamp(2)), companyId);
+    }
+    
+    private CompanyIndex build(Long companyId, Stamp stamp) {
+        long started = System.nanoTime();
+        Map<String, Postings> postings = new HashMap<>();
+        // Rows arrive in id order, so every postings list is sorted by id
+        jdbcTemplate.query(
+            "SELECT id, title, description, acceptance_criteria FROM stories WHERE company_id = ? ORDER BY id",
+            rs -> {
+                long id = rs.getLong(1);
+                Map<String, Float> scores = new HashMap<>();
+                addTerms(scores, rs.getString(2), TITLE_WEIGHT);
+                addTerms(scores, rs.getString(3), DESCRIPTION_WEIGHT);
+                addTerms(scores, rs.getString(4), CRITERIA_WEIGHT);
+                scores.forEach((term, score) -> postings.computeIfAbsent(term, t -> new Postings()).add(id, score));
+            }, companyId);
+        log.info("Built in-memory story search index for company {}: {} stories, {} terms in {} ms",
+            companyId, stamp.count(), postings.size(), (System.nanoTime() - started) / 1_000_000);
+        return new CompanyIndex(stamp, postings);
+    }
+    
+    private static void addTerms(Map<String, Float> scores, String text, float weight) {
+        for (String term : tokenize(text)) {
+            scores.merge(term, weight, Float::sum);
+        }
+    }
+    
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+    
+    private record Stamp(long count, Timestamp lastUpdated) {
+    }
+    
+    private record Hit(long id, float score) {
+    }
+    
+    private static final Comparator<Hit> BEST_FIRST = Comparator.comparingDouble(Hit::score).reversed()
+        .thenComparingLong(Hit::id);
+    
+    private static final class CompanyIndex {
+        private final Stamp stamp;
+        private final Map<String, Postings> postings;
+        
+        private CompanyIndex(Stamp stamp, Map<String, Postings> postings) {
+            this.stamp = stamp;
+            this.postings = postings;
+        }
+        
+        private List<Long> search(List<String> terms, int offset, int limit) {
+            List<Postings> lists = new ArrayList<>();
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            // Intersect starting from the rarest term
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            Postings matches = lists.get(0);
+            for (int i = 1; i < lists.size() && matches.size > 0; i++) {
+                matches = matches.intersect(lists.get(i));
+            }
+            
+            // Keep only the best offset + limit hits in a min-heap
+            int wanted = offset + limit;
+            PriorityQueue<Hit> best = new PriorityQueue<>(Math.max(1, Math.min(wanted, matches.size)), BEST_FIRST.reversed());
+            for (int i = 0; i < matches.size; i++) {
+                Hit hit = new Hit(matches.ids[i], matches.scores[i]);
+                if (best.size() < wanted) {
+                    best.add(hit);
+                } else if (BEST_FIRST.compare(hit, best.peek()) < 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+            }
+            List<Hit> ranked = new ArrayList<>(best);
+            ranked.sort(BEST_FIRST);
+            return ranked.stream().skip(offset).map(Hit::id).toList();
+        }
+    }
+    
+    // Story ids (ascending) with the term's weighted frequency in each story
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private float[] scores = new float[4];
+        private int size;
+        
+        private void add(long id, float score) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            ids[size] = id;
+            scores[size] = score;
+            size++;
+        }
+        
+        private Postings intersect(Postings other) {
+            Postings result = new Postings();
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (ids[i] > other.ids[j]) {
+                    j++;
+                } else {
+                    result.add(ids[i], scores[i] + other.scores[j]);
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
+}
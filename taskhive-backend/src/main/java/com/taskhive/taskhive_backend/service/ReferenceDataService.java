@@ -0,0 +1,60 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.config.CacheConfig;
+import com.taskhive.taskhive_backend.dto.SprintSummary;
+import com.taskhive.taskhive_backend.dto.TeamName;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.repository.CompanyRepository;
+import com.taskhive.taskhive_backend.repository.SprintRepository;
+import com.taskhive.taskhive_backend.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataService {
+    
+    private final CompanyRepository companyRepository;
+    private final TeamRepository teamRepository;
+    private final SprintRepository sprintRepository;
+    
+    @Cacheable(cacheNames = CacheConfig.COMPANIES, key = "#companyId")
+    public Company getCompany(Long companyId) {
+        return companyRepository.findById(companyId)
+            .orElseThrow(() -> new RuntimeException("Company not found with id: " + companyId));
+    }
+    
+    @Cacheable(cacheNames = CacheConfig.TEAM_IDS_BY_NAME, key = "#companyId")
+    public Map<String, Long> getTeamIdsByName(Long companyId) {
+        Map<String, Long> teamIds = new HashMap<>();
+        for (TeamName team : teamRepository.findTeamNames(companyId)) {
+            // Keep the first team when names repeat, as the old linear scan did
+            teamIds.putIfAbsent(team.getName(), team.getId());
+        }
+        return teamIds;
+    }
+    
+    // Cached as an immutable summary, not the managed entity with its lazy associations
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_SPRINTS, key = "#companyId")
+    public SprintSummary findActiveSprint(Long companyId) {
+        return sprintRepository.findSummaryByCompanyIdAndStatus(companyId, Sprint.Status.ACTIVE).orElse(null);
+    }
+    
+    @CacheEvict(cacheNames = CacheConfig.COMPANIES, key = "#companyId")
+    public void evictCompany(Long companyId) {
+    }
+    
+    @CacheEvict(cacheNames = CacheConfig.TEAM_IDS_BY_NAME, key = "#companyId")
+    public void evictTeams(Long companyId) {
+    }
+    
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_SPRINTS, key = "#companyId")
+    public void evictActiveSprint(Long companyId) {
+    }
+}
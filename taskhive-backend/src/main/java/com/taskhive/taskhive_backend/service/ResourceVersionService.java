@@ -0,0 +1,69 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.model.CollectionVersion;
+import com.taskhive.taskhive_backend.repository.CollectionVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Weak ETags for the polled GET endpoints, built from the company's collection_versions rows so
+// a matching If-None-Match is answered with 304 before any entity is loaded. Every write path
+// increments its collections' counters in its own transaction (see CollectionVersionService).
+// Bump REPRESENTATION_VERSION whenever the JSON shape of these endpoints changes.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResourceVersionService {
+    
+    private static final String REPRESENTATION_VERSION = "3";
+    
+    // Browsers may keep the response but must revalidate it on every use
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
+    private final CollectionVersionRepository collectionVersionRepository;
+    
+    public String storiesEtag(Long companyId) {
+        return etag("stories", companyId, collectionVersionRepository.findByCompanyId(companyId),
+            CollectionVersion.Kind.STORIES);
+    }
+    
+    // Sprint responses include progress, which follows the stories
+    public String sprintsEtag(Long companyId) {
+        return etag("sprints", companyId, collectionVersionRepository.findByCompanyId(companyId),
+            CollectionVersion.Kind.SPRINTS, CollectionVersion.Kind.STORIES);
+    }
+    
+    // A sprint's detail includes its stories
+    public String sprintEtag(Long sprintId) {
+        return etag("sprint", sprintId, collectionVersionRepository.findBySprintId(sprintId),
+            CollectionVersion.Kind.SPRINTS, CollectionVersion.Kind.STORIES);
+    }
+    
+    // Team responses include member names, which live on users.team_id
+    public String teamsEtag(Long companyId) {
+        return etag("teams", companyId, collectionVersionRepository.findByCompanyId(companyId),
+            CollectionVersion.Kind.TEAMS, CollectionVersion.Kind.USERS);
+    }
+    
+    public String usersEtag(Long companyId) {
+        return etag("users", companyId, collectionVersionRepository.findByCompanyId(companyId),
+            CollectionVersion.Kind.USERS);
+    }
+    
+    private static String etag(String resource, Long id, List<CollectionVersion> rows,
+                               CollectionVersion.Kind... collections) {
+        Map<CollectionVersion.Kind, Long> versions = new EnumMap<>(CollectionVersion.Kind.class);
+        rows.forEach(row -> versions.put(row.getCollection(), row.getVersion()));
+        StringBuilder tag = new StringBuilder("W/\"").append(resource).append('-').append(id)
+            .append("-v").append(REPRESENTATION_VERSION);
+        for (CollectionVersion.Kind collection : collections) {
+            tag.append('-').append(Long.toString(versions.getOrDefault(collection, 0L), 36));
+        }
+        return tag.append('"').toString();
+    }
+}
@@ -1,14 +1,18 @@
 package com.taskhive.taskhive_backend.service;
 
-import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.model.CollectionVersion;
+import com.taskhive.taskhive_backend.repository.CompanyRepository;
 import com.taskhive.taskhive_backend.repository.StoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -16,31 +20,61 @@ import java.util.List;
 public class ScheduledTaskService {
     
     private final StoryRepository storyRepository;
+    private final CompanyRepository companyRepository;
+    private final MeterRegistry meterRegistry;
+    private final SprintRollupService sprintRollupService;
+    private final CollectionVersionService collectionVersionService;
+    
+    @Value("${taskhive.overdue.chunk-size:1000}")
+    private int overdueChunkSize;
     
     @Scheduled(cron = "0 0 1 * * ?") // Run daily at 1 AM
-    public void updateOverdueStories() {
+    public int updateOverdueStories() {
         log.info("Starting scheduled task to update overdue stories");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int failedCompanies = 0;
+        
+        LocalDate today = LocalDate.now();
+        int totalUpdated = 0;
         
-        try {
-            LocalDate today = LocalDate.now();
-            
-            // Find stories that are past deadline and not completed
-            List<Story> overdueStories = storyRepository.findAll().stream()
-                .filter(story -> story.getDeadline() != null)
-                .filter(story -> story.getDeadline().isBefore(today))
-                .filter(story -> !"Completed".equals(story.getStatus()))
-                .filter(story -> !"Overdue".equals(story.getStatus()))
-                .toList();
-            
-            for (Story story : overdueStories) {
-                story.setStatus("Overdue");
-                storyRepository.save(story);
+        for (Long companyId : companyRepository.findAllIds()) {
+            try {
+                int companyUpdated = 0;
+                int updated;
+                // Each chunk is its own short transaction; stop once a chunk comes back short
+                do {
+                    updated = storyRepository.markOverdueChunk(companyId, today, overdueChunkSize);
+                    companyUpdated += updated;
+                } while (updated == overdueChunkSize);
+                
+                if (companyUpdated > 0) {
+                    log.info("Marked {} stories overdue for company {}", companyUpdated, companyId);
+                    collectionVersionService.changed(companyId, CollectionVersion.Kind.STORIES);
+                    // The bulk update bypasses the incremental rollup path
+                    sprintRollupService.reconcileCompany(companyId);
+                }
+                totalUpdated += companyUpdated;
+            } catch (Exception e) {
+                log.error("Error updating overdue stories for company {}: {}", companyId, e.getMessage());
+                failedCompanies++;
             }
-            
-            log.info("Updated {} stories to overdue status", overdueStories.size());
-            
-        } catch (Exception e) {
-            log.error("Error updating overdue stories: {}", e.getMessage());
         }
+        
+        String outcome = failedCompanies == 0 ? "success" : "partial";
+        sample.stop(Timer.builder("taskhive.scheduled.overdue.duration")
+            .description("Duration of the overdue stories job")
+            .tag("outcome", outcome)
+            .register(meterRegistry));
+        Counter.builder("taskhive.scheduled.overdue.runs")
+            .tag("outcome", outcome)
+            .register(meterRegistry).increment();
+        Counter.builder("taskhive.scheduled.overdue.stories")
+            .description("Stories marked overdue")
+            .register(meterRegistry).increment(totalUpdated);
+        Counter.builder("taskhive.scheduled.overdue.company.failures")
+            .register(meterRegistry).increment(failedCompanies);
+        
+        log.info("Updated {} stories to overdue status", totalUpdated);
+        return totalUpdated;
     }
-}
\ No newline at end of file
+}
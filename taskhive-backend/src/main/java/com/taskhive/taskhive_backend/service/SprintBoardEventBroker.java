@@ -0,0 +1,259 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.dto.SprintBoardEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fans sprint board changes out to SSE subscribers. Events are handed over after the
+// publishing transaction commits; publish() only offers to each subscriber's bounded queue
+// and never blocks on a socket. Each subscriber is drained by at most one writer task, and a
+// subscriber whose queue is full is dropped (the browser reconnects and reloads the board).
+// Writers come from a fixed pool; a write that stays blocked past the write timeout drops its
+// subscriber, and dropping a subscriber interrupts its writer so the thread goes back to the pool.
+// Completing a dropped emitter waits for a write in progress, so it runs on the writer pool too,
+// never on the publishing request thread or the scheduler.
+@Component
+@Slf4j
+public class SprintBoardEventBroker {
+    
+    // Queue marker for keep-alive comments, so they are written in order with the events
+    private static final Object HEARTBEAT = new Object();
+    
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+    private final long writeTimeoutNanos;
+    private final Map<Long, Set<Subscriber>> subscribersByCompany = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter droppedSubscribers;
+    private final Counter publishedEvents;
+    
+    // Writers block on slow sockets, so they get their own threads rather than the request pool.
+    // At most one drain task per subscriber is queued, so the task queue is bounded by subscribers.
+    private final ExecutorService writers;
+    private final Set<Thread> startedWriters = ConcurrentHashMap.newKeySet();
+    
+    public SprintBoardEventBroker(MeterRegistry meterRegistry,
+                                  @Value("${taskhive.events.subscriber-buffer:256}") int bufferSize,
+                                  @Value("${taskhive.events.emitter-timeout:30m}") Duration emitterTimeout,
+                                  @Value("${taskhive.events.writer-threads:16}") int writerThreads,
+                                  @Value("${taskhive.events.write-timeout:10s}") Duration writeTimeout) {
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        AtomicInteger writerNumber = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-writer-" + writerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            startedWriters.add(thread);
+            return thread;
+        });
+        meterRegistry.gauge("taskhive.events.subscribers", subscriberCount);
+        this.droppedSubscribers = Counter.builder("taskhive.events.dropped")
+            .description("SSE subscribers dropped because their buffer was full or a write stalled")
+            .register(meterRegistry);
+        this.publishedEvents = Counter.builder("taskhive.events.published")
+            .description("Sprint board events published")
+            .register(meterRegistry);
+    }
+    
+    // sprintId null subscribes to every sprint of the company
+    public SseEmitter subscribe(Long companyId, Long sprintId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(companyId, sprintId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribersByCompany.computeIfAbsent(companyId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        
+        // Flushes the response headers so the client knows the stream is open
+        enqueue(subscriber, HEARTBEAT);
+        log.debug("SSE subscriber added for company {}, sprint {}", companyId, sprintId);
+        return emitter;
+    }
+    
+    // Runs after commit; services publish outside a transaction too, where it runs right away
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(SprintBoardEvent event) {
+        publishedEvents.increment();
+        Set<Subscriber> subscribers = subscribersByCompany.get(event.getCompanyId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(event)) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${taskhive.events.heartbeat-interval:25s}")
+    public void sendHeartbeats() {
+        subscribersByCompany.values().forEach(subscribers -> subscribers.forEach(subscriber -> enqueue(subscriber, HEARTBEAT)));
+    }
+    
+    // A client that stops reading without closing the connection blocks its writer in send()
+    @Scheduled(fixedDelayString = "${taskhive.events.write-check-interval:1s}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribersByCompany.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            long started = subscriber.writeStarted;
+            if (started != 0 && now - started > writeTimeoutNanos) {
+                log.warn("Dropping stalled SSE subscriber for company {}, sprint {}: write blocked for {} ms",
+                    subscriber.companyId, subscriber.sprintId, (now - started) / 1_000_000);
+                droppedSubscribers.increment();
+                close(subscriber);
+            }
+        }));
+    }
+    
+    private void enqueue(Subscriber subscriber, Object item) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(item)) {
+            log.warn("Dropping slow SSE subscriber for company {}, sprint {}: {} events buffered",
+                subscriber.companyId, subscriber.sprintId, bufferSize);
+            droppedSubscribers.increment();
+            close(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+    
+    private void drain(Subscriber subscriber) {
+        synchronized (subscriber) {
+            subscriber.writer = Thread.currentThread();
+        }
+        try {
+            Object item;
+            while (!subscriber.closed.get() && (item = subscriber.queue.poll()) != null) {
+                subscriber.writeStarted = System.nanoTime();
+                if (item == HEARTBEAT) {
+                    subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else {
+                    SprintBoardEvent event = (SprintBoardEvent) item;
+                    subscriber.emitter.send(SseEmitter.event().name(event.getType()).data(event, MediaType.APPLICATION_JSON));
+                }
+                subscriber.writeStarted = 0;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away, the emitter already completed, or close() interrupted the write
+            log.debug("SSE subscriber for company {} disconnected: {}", subscriber.companyId, e.getMessage());
+            close(subscriber);
+        } finally {
+            subscriber.writeStarted = 0;
+            synchronized (subscriber) {
+                subscriber.writer = null;
+            }
+            // close() can no longer interrupt this thread; clear any interrupt it left behind
+            // before the thread runs another subscriber's drain
+            Thread.interrupted();
+            subscriber.draining.set(false);
+        }
+        // An item may have arrived after the last poll but before draining was cleared
+        if (!subscriber.closed.get() && !subscriber.queue.isEmpty()
+                && subscriber.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+    
+    private void close(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            // Frees a writer blocked on this subscriber's socket
+            synchronized (subscriber) {
+                if (subscriber.writer != null && subscriber.writer != Thread.currentThread()) {
+                    subscriber.writer.interrupt();
+                }
+            }
+            try {
+                writers.execute(subscriber.emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; no writer is left to block it
+                subscriber.emitter.complete();
+            }
+        }
+    }
+    
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriber.queue.clear();
+        Set<Subscriber> subscribers = subscribersByCompany.get(subscriber.companyId);
+        if (subscribers != null) {
+            subscribers.remove(subscriber);
+        }
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+    
+    // Streams never finish on their own, so end them before graceful shutdown starts waiting
+    // for in-flight requests
+    @EventListener(ContextClosedEvent.class)
+    public void closeSubscribers() {
+        subscribersByCompany.values().forEach(subscribers -> subscribers.forEach(this::close));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+    }
+    
+    // This broker's writer threads, for tests
+    Set<Thread> writerThreads() {
+        return startedWriters;
+    }
+    
+    private static final class Subscriber {
+        private final Long companyId;
+        private final Long sprintId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // Thread draining this subscriber and when its current write began (0 when idle)
+        private Thread writer;
+        private volatile long writeStarted;
+        
+        private Subscriber(Long companyId, Long sprintId, SseEmitter emitter, BlockingQueue<Object> queue) {
+            this.companyId = companyId;
+            this.sprintId = sprintId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+        
+        private boolean accepts(SprintBoardEvent event) {
+            return sprintId == null
+                || sprintId.equals(event.getSprintId())
+                || Objects.equals(sprintId, event.getPreviousSprintId());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.dto.BurndownPoint;
+import com.taskhive.taskhive_backend.dto.SprintBurndown;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.model.SprintRollup;
+import com.taskhive.taskhive_backend.model.SprintSnapshot;
+import com.taskhive.taskhive_backend.repository.SprintRepository;
+import com.taskhive.taskhive_backend.repository.SprintRollupRepository;
+import com.taskhive.taskhive_backend.repository.SprintSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// Burndown series from sprint_snapshots. Points are appended from SprintRollupService on every
+// change and for active sprints at a fixed interval. Points older than the raw retention are
+// compacted to the last one of each day, which is all a finished sprint's chart needs.
+@Service
+@Slf4j
+public class SprintBurndownService {
+    
+    private static final int MAX_POINTS_LIMIT = 5000;
+    
+    private final SprintSnapshotRepository sprintSnapshotRepository;
+    private final SprintRepository sprintRepository;
+    private final SprintRollupRepository sprintRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration rawRetention;
+    private final Counter compactedSnapshots;
+    
+    public SprintBurndownService(SprintSnapshotRepository sprintSnapshotRepository,
+                                 SprintRepository sprintRepository,
+                                 SprintRollupRepository sprintRollupRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${taskhive.burndown.raw-retention:14d}") Duration rawRetention) {
+        this.sprintSnapshotRepository = sprintSnapshotRepository;
+        this.sprintRepository = sprintRepository;
+        this.sprintRollupRepository = sprintRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rawRetention = rawRetention;
+        this.compactedSnapshots = Counter.builder("taskhive.burndown.compacted")
+            .description("Sprint snapshots removed by daily compaction")
+            .register(meterRegistry);
+    }
+    
+    // maxPoints thins long series to the last point per time bucket; the chart keeps its shape
+    @Transactional(readOnly = true)
+    public SprintBurndown getBurndown(Long sprintId, Integer maxPoints) {
+        Sprint sprint = sprintRepository.findById(sprintId)
+            .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+        long committedPoints = sprintRollupRepository.findById(sprintId)
+            .map(SprintRollup::getCommittedPoints)
+            .orElse(0L);
+        int limit = maxPoints == null ? 500 : Math.max(2, Math.min(maxPoints, MAX_POINTS_LIMIT));
+        List<BurndownPoint> points = downsample(sprintSnapshotRepository.findSeries(sprintId), limit);
+        return new SprintBurndown(sprintId, sprint.getStartDate(), sprint.getEndDate(), committedPoints, points);
+    }
+    
+    // Runs in the transaction that changed the rollup
+    @Transactional
+    public void record(SprintRollup rollup) {
+        sprintSnapshotRepository.save(SprintSnapshot.of(rollup, LocalDateTime.now()));
+    }
+    
+    @Transactional
+    public void sprintDeleted(Long sprintId) {
+        sprintSnapshotRepository.deleteBySprintId(sprintId);
+    }
+    
+    // Keeps the line moving for active sprints on days without story changes
+    @Scheduled(fixedDelayString = "${taskhive.burndown.snapshot-interval:1h}",
+               initialDelayString = "${taskhive.burndown.snapshot-interval:1h}")
+    public int captureActiveSprints() {
+        int captured = sprintSnapshotRepository.captureActiveSprints(LocalDateTime.now());
+        log.debug("Captured burndown snapshots for {} active sprints", captured);
+        return captured;
+    }
+    
+    @Scheduled(cron = "${taskhive.burndown.compaction-cron:0 30 1 * * ?}")
+    public int compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(rawRetention);
+        log.info("Starting burndown compaction of snapshots before {}", cutoff);
+        int removed = 0;
+        for (Long sprintId : sprintSnapshotRepository.findSprintIdsCapturedBefore(cutoff)) {
+            try {
+                removed += transactionTemplate.execute(status -> compactSprint(sprintId, cutoff));
+            } catch (Exception e) {
+                log.error("Error compacting burndown snapshots for sprint {}: {}", sprintId, e.getMessage());
+            }
+        }
+        compactedSnapshots.increment(removed);
+        log.info("Burndown compaction removed {} snapshots", removed);
+        return removed;
+    }
+    
+    // Keeps the last snapshot of each day before the cutoff
+    private int compactSprint(Long sprintId, LocalDateTime cutoff) {
+        List<SprintSnapshot> snapshots = sprintSnapshotRepository
+            .findBySprintIdAndCapturedAtBeforeOrderByCapturedAt(sprintId, cutoff);
+        List<Long> superseded = new ArrayList<>();
+        for (int i = 0; i < snapshots.size() - 1; i++) {
+            if (snapshots.get(i).getCapturedAt().toLocalDate()
+                    .equals(snapshots.get(i + 1).getCapturedAt().toLocalDate())) {
+                superseded.add(snapshots.get(i).getId());
+            }
+        }
+        if (!superseded.isEmpty()) {
+            sprintSnapshotRepository.deleteAllByIdInBatch(superseded);
+        }
+        return superseded.size();
+    }
+    
+    // Splits the series' time span into maxPoints buckets and keeps the first point overall and
+    // the last point of each bucket
+    private static List<BurndownPoint> downsample(List<BurndownPoint> points, int maxPoints) {
+        if (points.size() <= maxPoints) {
+            return points;
+        }
+        long start = epochSecond(points.get(0));
+        long span = epochSecond(points.get(points.size() - 1)) - start + 1;
+        List<BurndownPoint> sampled = new ArrayList<>(maxPoints + 1);
+        sampled.add(points.get(0));
+        long currentBucket = -1;
+        BurndownPoint lastInBucket = null;
+        for (int i = 1; i < points.size(); i++) {
+            BurndownPoint point = points.get(i);
+            long bucket = (epochSecond(point) - start) * (maxPoints - 1) / span;
+            if (bucket != currentBucket && lastInBucket != null) {
+                sampled.add(lastInBucket);
+            }
+            currentBucket = bucket;
+            lastInBucket = point;
+        }
+        sampled.add(lastInBucket);
+        return sampled;
+    }
+    
+    private static long epochSecond(BurndownPoint point) {
+        return point.capturedAt().toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,302 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.dto.SprintBoardEvent;
+import com.taskhive.taskhive_backend.dto.SprintStoryAggregate;
+import com.taskhive.taskhive_backend.model.CollectionVersion;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.model.SprintRollup;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.repository.CompanyRepository;
+import com.taskhive.taskhive_backend.repository.SprintRepository;
+import com.taskhive.taskhive_backend.repository.SprintRollupRepository;
+import com.taskhive.taskhive_backend.repository.StoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Maintains sprint_rollups. Story writes apply their change to the sprint's row under a row lock
+// in the writer's transaction, and sprints.progress mirrors the rollup, so progress reads are a
+// single-row lookup. A periodic job recomputes every sprint from its stories and repairs rows
+// that drifted (bulk SQL updates, manual data fixes).
+@Service
+@Slf4j
+public class SprintRollupService {
+    
+    private final SprintRollupRepository sprintRollupRepository;
+    private final SprintRepository sprintRepository;
+    private final StoryRepository storyRepository;
+    private final CompanyRepository companyRepository;
+    private final ReferenceDataService referenceDataService;
+    private final SprintBurndownService sprintBurndownService;
+    private final CollectionVersionService collectionVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter repairedRollups;
+    
+    public SprintRollupService(SprintRollupRepository sprintRollupRepository,
+                               SprintRepository sprintRepository,
+                               StoryRepository storyRepository,
+                               CompanyRepository companyRepository,
+                               ReferenceDataService referenceDataService,
+                               SprintBurndownService sprintBurndownService,
+                               CollectionVersionService collectionVersionService,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager) {
+        this.sprintRollupRepository = sprintRollupRepository;
+        this.sprintRepository = sprintRepository;
+        this.storyRepository = storyRepository;
+        this.companyRepository = companyRepository;
+        this.referenceDataService = referenceDataService;
+        this.sprintBurndownService = sprintBurndownService;
+        this.collectionVersionService = collectionVersionService;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.repairedRollups = Counter.builder("taskhive.rollups.repaired")
+            .description("Sprint rollups recomputed because they no longer matched their stories")
+            .register(meterRegistry);
+    }
+    
+    // A story's share of one sprint's rollup
+    public record Contribution(Long sprintId, String status, Integer storyPoints) {
+        
+        public static Contribution of(Story story) {
+            return new Contribution(story.getSprintId(), story.getStatus(), story.getStoryPoints());
+        }
+    }
+    
+    public SprintRollup getRollup(Long sprintId) {
+        return sprintRollupRepository.findById(sprintId)
+            .or(() -> Optional.ofNullable(createRow(sprintId)))
+            .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + sprintId));
+    }
+    
+    // Call in the transaction that changed the story; before is null for new stories, after for deleted ones
+    @Transactional
+    public void storyChanged(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        Long fromSprintId = before != null ? before.sprintId() : null;
+        Long toSprintId = after != null ? after.sprintId() : null;
+        TreeMap<Long, SprintRollup> rollups = lockAll(Arrays.asList(fromSprintId, toSprintId));
+        Map<Long, Integer> previousProgress = progressOf(rollups);
+        
+        SprintRollup from = fromSprintId != null ? rollups.get(fromSprintId) : null;
+        if (from != null) {
+            from.removeStory(before.status(), before.storyPoints());
+        }
+        SprintRollup to = toSprintId != null ? rollups.get(toSprintId) : null;
+        if (to != null) {
+            to.addStory(after.status(), after.storyPoints());
+        }
+        rollups.values().forEach(rollup -> save(rollup, previousProgress.get(rollup.getSprintId())));
+    }
+    
+    // Bulk inserts (the importer) report every new story that landed in a sprint
+    @Transactional
+    public void storiesAdded(List<Contribution> added) {
+        TreeMap<Long, SprintRollup> rollups = lockAll(added.stream().map(Contribution::sprintId).toList());
+        Map<Long, Integer> previousProgress = progressOf(rollups);
+        for (Contribution contribution : added) {
+            SprintRollup rollup = rollups.get(contribution.sprintId());
+            if (rollup != null) {
+                rollup.addStory(contribution.status(), contribution.storyPoints());
+            }
+        }
+        rollups.values().forEach(rollup -> save(rollup, previousProgress.get(rollup.getSprintId())));
+    }
+    
+    @Transactional
+    public void sprintCreated(Sprint sprint) {
+        SprintRollup rollup = new SprintRollup(sprint.getId(), sprint.getCompany().getId());
+        if (sprint.getStatus() != null && sprint.getStatus() != Sprint.Status.PLANNING) {
+            rollup.commit(LocalDateTime.now());
+        }
+        sprintRollupRepository.save(rollup);
+    }
+    
+    // Leaving PLANNING freezes the committed points
+    @Transactional
+    public void sprintStatusChanged(Long sprintId, Sprint.Status status) {
+        if (status == null || status == Sprint.Status.PLANNING) {
+            return;
+        }
+        SprintRollup rollup = lock(sprintId);
+        if (rollup != null && rollup.getCommittedAt() == null) {
+            rollup.commit(LocalDateTime.now());
+            sprintRollupRepository.save(rollup);
+            // The burndown starts from the committed scope
+            sprintBurndownService.record(rollup);
+        }
+    }
+    
+    @Transactional
+    public void sprintDeleted(Long sprintId) {
+        sprintRollupRepository.findById(sprintId).ifPresent(sprintRollupRepository::delete);
+    }
+    
+    @Scheduled(fixedDelayString = "${taskhive.rollups.reconcile-interval:15m}",
+               initialDelayString = "${taskhive.rollups.reconcile-initial-delay:1m}")
+    public int reconcile() {
+        log.info("Starting sprint rollup reconciliation");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int failedCompanies = 0;
+        int totalRepaired = 0;
+        
+        for (Long companyId : companyRepository.findAllIds()) {
+            try {
+                totalRepaired += reconcileCompany(companyId);
+            } catch (Exception e) {
+                log.error("Error reconciling sprint rollups for company {}: {}", companyId, e.getMessage());
+                failedCompanies++;
+            }
+        }
+        
+        sample.stop(Timer.builder("taskhive.scheduled.rollups.duration")
+            .description("Duration of the sprint rollup reconciliation job")
+            .tag("outcome", failedCompanies == 0 ? "success" : "partial")
+            .register(meterRegistry));
+        log.info("Sprint rollup reconciliation repaired {} sprints", totalRepaired);
+        return totalRepaired;
+    }
+    
+    // Compares every sprint of the company with its stories in two grouped queries. Rows that
+    // differ are recomputed under their row lock, so story writes in flight are serialized with
+    // the repair rather than overwritten.
+    public int reconcileCompany(Long companyId) {
+        Map<Long, SprintRollup> expected = new HashMap<>();
+        for (Long sprintId : sprintRepository.findIdsByCompanyId(companyId)) {
+            expected.put(sprintId, new SprintRollup(sprintId, companyId));
+        }
+        for (SprintStoryAggregate aggregate : storyRepository.aggregateBySprint(companyId)) {
+            SprintRollup rollup = expected.get(aggregate.getSprintId());
+            if (rollup != null) {
+                rollup.add(aggregate.getStatus(), aggregate.getStoryCount(), aggregate.getStoryPoints());
+            }
+        }
+        Map<Long, SprintRollup> stored = sprintRollupRepository.findByCompanyId(companyId).stream()
+            .collect(Collectors.toMap(SprintRollup::getSprintId, Function.identity()));
+        
+        int repaired = 0;
+        for (SprintRollup rollup : expected.values()) {
+            SprintRollup current = stored.get(rollup.getSprintId());
+            if (current == null) {
+                createRow(rollup.getSprintId());
+            } else if (!current.sameCountsAs(rollup)) {
+                log.debug("Sprint {} rollup drifted: {} expected {}", rollup.getSprintId(), current, rollup);
+                transactionTemplate.executeWithoutResult(status -> repair(rollup.getSprintId()));
+            } else {
+                continue;
+            }
+            repaired++;
+        }
+        repairedRollups.increment(repaired);
+        return repaired;
+    }
+    
+    private void repair(Long sprintId) {
+        SprintRollup rollup = sprintRollupRepository.findForUpdate(sprintId).orElse(null);
+        if (rollup != null) {
+            int previousProgress = rollup.getProgress();
+            recount(rollup, storyRepository.aggregateForSprint(sprintId));
+            save(rollup, previousProgress);
+        }
+    }
+    
+    // Locks in sprint id order so two writers touching the same pair of sprints cannot deadlock
+    private TreeMap<Long, SprintRollup> lockAll(List<Long> sprintIds) {
+        TreeMap<Long, SprintRollup> rollups = new TreeMap<>();
+        sprintIds.stream().filter(Objects::nonNull).distinct().sorted().forEach(sprintId -> {
+            SprintRollup rollup = lock(sprintId);
+            if (rollup != null) {
+                rollups.put(sprintId, rollup);
+            }
+        });
+        return rollups;
+    }
+    
+    // null when the sprint no longer exists
+    private SprintRollup lock(Long sprintId) {
+        return sprintRollupRepository.findForUpdate(sprintId)
+            .or(() -> createRow(sprintId) != null ? sprintRollupRepository.findForUpdate(sprintId) : Optional.empty())
+            .orElse(null);
+    }
+    
+    // Sprints created before rollups existed get their row on first use, built from committed
+    // stories in its own transaction; when another writer creates it first, that row is used
+    private SprintRollup createRow(Long sprintId) {
+        try {
+            return transactionTemplate.execute(status -> buildRow(sprintId));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Concurrent creation of the rollup for sprint {}, using the existing row", sprintId);
+            return sprintRollupRepository.findById(sprintId).orElse(null);
+        }
+    }
+    
+    private SprintRollup buildRow(Long sprintId) {
+        Sprint sprint = sprintRepository.findById(sprintId).orElse(null);
+        if (sprint == null) {
+            return null;
+        }
+        SprintRollup rollup = new SprintRollup(sprintId, sprint.getCompany().getId());
+        recount(rollup, storyRepository.aggregateForSprint(sprintId));
+        if (sprint.getStatus() != Sprint.Status.PLANNING) {
+            rollup.commit(LocalDateTime.now());
+        }
+        SprintRollup saved = sprintRollupRepository.saveAndFlush(rollup);
+        if (sprintRepository.updateProgress(sprintId, saved.getProgress()) > 0) {
+            collectionVersionService.changed(saved.getCompanyId(), CollectionVersion.Kind.SPRINTS);
+        }
+        return saved;
+    }
+    
+    private static void recount(SprintRollup rollup, List<SprintStoryAggregate> aggregates) {
+        rollup.resetCounts();
+        for (SprintStoryAggregate aggregate : aggregates) {
+            rollup.add(aggregate.getStatus(), aggregate.getStoryCount(), aggregate.getStoryPoints());
+        }
+    }
+    
+    private static Map<Long, Integer> progressOf(Map<Long, SprintRollup> rollups) {
+        Map<Long, Integer> progress = new HashMap<>();
+        rollups.forEach((sprintId, rollup) -> progress.put(sprintId, rollup.getProgress()));
+        return progress;
+    }
+    
+    // Every saved change is a burndown point; sprints.progress and the board only change when
+    // the percentage does
+    private void save(SprintRollup rollup, int previousProgress) {
+        sprintRollupRepository.save(rollup);
+        sprintBurndownService.record(rollup);
+        if (rollup.getProgress() != previousProgress) {
+            sprintRepository.updateProgress(rollup.getSprintId(), rollup.getProgress());
+            collectionVersionService.changed(rollup.getCompanyId(), CollectionVersion.Kind.SPRINTS);
+            referenceDataService.evictActiveSprint(rollup.getCompanyId());
+            eventPublisher.publishEvent(SprintBoardEvent.forRollup(rollup));
+        }
+    }
+}
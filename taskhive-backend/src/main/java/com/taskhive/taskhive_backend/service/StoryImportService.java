@@ -0,0 +1,362 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskhive.taskhive_backend.dto.StoryImportError;
+import com.taskhive.taskhive_backend.dto.StoryImportResult;
+import com.taskhive.taskhive_backend.model.CollectionVersion;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.repository.SprintRepository;
+import com.taskhive.taskhive_backend.repository.StoryRepository;
+import com.taskhive.taskhive_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Bulk story import from CSV (header row required) or NDJSON. The body is read one record at a
+// time; valid rows are inserted with JDBC batches, each batch in its own transaction, and
+// storyIds are reserved per batch with IdAllocator.allocateBlock.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoryImportService {
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO stories (company_id, story_id, title, description, type, priority, status, assignee_id, " +
+        "assignee_name, story_points, progress, deadline, acceptance_criteria, sprint_id, created_by, " +
+        "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final List<String> COLUMNS = List.of("title", "description", "type", "priority", "status",
+        "storyPoints", "progress", "deadline", "assigneeId", "assigneeName", "acceptanceCriteria", "sprintId");
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdAllocator idAllocator;
+    private final ReferenceDataService referenceDataService;
+    private final StoryRepository storyRepository;
+    private final SprintRepository sprintRepository;
+    private final UserRepository userRepository;
+    private final SprintRollupService sprintRollupService;
+    private final CollectionVersionService collectionVersionService;
+    
+    @Value("${taskhive.import.batch-size:1000}")
+    private int batchSize;
+    
+    @Value("${taskhive.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+    
+    public StoryImportResult importCsv(Long companyId, Long createdBy, InputStream body) throws IOException {
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new RuntimeException("CSV body is empty");
+        }
+        Map<String, Integer> columnIndex = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = canonicalColumn(header.get(i));
+            if (column == null) {
+                throw new RuntimeException("Unknown CSV column: " + header.get(i));
+            }
+            columnIndex.put(column, i);
+        }
+        
+        Iterator<RawRow> rows = new Iterator<>() {
+            private List<String> next = advance();
+            
+            private List<String> advance() {
+                try {
+                    return csv.next();
+                } catch (IOException e) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+            }
+            
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+            
+            @Override
+            public RawRow next() {
+                List<String> record = next;
+                long line = csv.getRecordLine();
+                next = advance();
+                Map<String, String> values = new HashMap<>();
+                columnIndex.forEach((column, index) -> {
+                    if (index < record.size() && !record.get(index).isEmpty()) {
+                        values.put(column, record.get(index));
+                    }
+                });
+                return new RawRow(line, values, null);
+            }
+        };
+        return importRows(companyId, createdBy, rows);
+    }
+    
+    public StoryImportResult importNdjson(Long companyId, Long createdBy, InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Iterator<RawRow> rows = new Iterator<>() {
+            private long lineNumber;
+            private String next = advance();
+            
+            private String advance() {
+                try {
+                    String line;
+                    do {
+                        line = reader.readLine();
+                        lineNumber++;
+                    } while (line != null && line.isBlank());
+                    return line;
+                } catch (IOException e) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+            }
+            
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+            
+            @Override
+            public RawRow next() {
+                String line = next;
+                long number = lineNumber;
+                next = advance();
+                try {
+                    JsonNode node = objectMapper.readTree(line);
+                    if (!node.isObject()) {
+                        return new RawRow(number, null, "Expected a JSON object");
+                    }
+                    Map<String, String> values = new HashMap<>();
+                    for (String column : COLUMNS) {
+                        JsonNode value = node.get(column);
+                        if (value != null && !value.isNull()) {
+                            values.put(column, value.asText());
+                        }
+                    }
+                    return new RawRow(number, values, null);
+                } catch (JsonProcessingException e) {
+                    return new RawRow(number, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+        };
+        return importRows(companyId, createdBy, rows);
+    }
+    
+    private StoryImportResult importRows(Long companyId, Long createdBy, Iterator<RawRow> rows) {
+        Company company = referenceDataService.getCompany(companyId);
+        // References are checked up front: a dangling foreign key would fail the whole batch
+        Set<Long> sprintIds = new HashSet<>(sprintRepository.findIdsByCompanyId(companyId));
+        Set<Long> userIds = new HashSet<>(userRepository.findIdsByCompanyId(companyId));
+        StoryImportResult result = new StoryImportResult();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        
+        while (rows.hasNext()) {
+            RawRow row = rows.next();
+            Object[] values;
+            try {
+                if (row.error() != null) {
+                    throw new IllegalArgumentException(row.error());
+                }
+                values = toInsertValues(companyId, createdBy, row.values(), sprintIds, userIds);
+            } catch (IllegalArgumentException e) {
+                addError(result, row.line(), e.getMessage());
+                continue;
+            }
+            batch.add(values);
+            batchLines.add(row.line());
+            if (batch.size() == batchSize) {
+                flush(company, batch, batchLines, result);
+                batch.clear();
+                batchLines.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(company, batch, batchLines, result);
+        }
+        log.info("Imported {} stories for company {}, {} rows failed", result.getImported(), companyId, result.getFailed());
+        return result;
+    }
+    
+    private void flush(Company company, List<Object[]> batch, List<Long> lines, StoryImportResult result) {
+        assignStoryIds(company, batch);
+        insert(company, batch, lines, result);
+    }
+    
+    // When the database rejects a row the whole batch rolls back. It is then retried in halves,
+    // each in its own transaction, until the rejected rows are alone: they are reported against
+    // their own lines and every other row is imported. Failures that are not about the rows
+    // (lost connection, timeout) would fail every retry too, so the batch is reported once.
+    private void insert(Company company, List<Object[]> rows, List<Long> lines, StoryImportResult result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                collectionVersionService.changed(company.getId(), CollectionVersion.Kind.STORIES);
+                sprintRollupService.storiesAdded(sprintContributions(rows));
+            });
+            result.setImported(result.getImported() + rows.size());
+        } catch (DataIntegrityViolationException e) {
+            if (rows.size() == 1) {
+                addError(result, lines.get(0), "Rejected by the database: " + e.getMostSpecificCause().getMessage());
+                return;
+            }
+            log.debug("Story import rows from line {} were rejected, retrying in halves: {}", lines.get(0), e.getMessage());
+            int half = rows.size() / 2;
+            insert(company, rows.subList(0, half), lines.subList(0, half), result);
+            insert(company, rows.subList(half, rows.size()), lines.subList(half, lines.size()), result);
+        } catch (Exception e) {
+            log.warn("Story import batch starting at line {} failed: {}", lines.get(0), e.getMessage());
+            // addError counts the first row
+            result.setFailed(result.getFailed() + rows.size() - 1);
+            addError(result, lines.get(0), "Batch of " + rows.size() + " rows starting here was not imported: "
+                + e.getMessage());
+        }
+    }
+    
+    // Same format as StoryServiceImpl.createStory: <company code>-<type initial><number>
+    private void assignStoryIds(Company company, List<Object[]> batch) {
+        Map<String, Integer> countsByType = new HashMap<>();
+        for (Object[] values : batch) {
+            countsByType.merge(typeCode(values), 1, Integer::sum);
+        }
+        Map<String, Long> nextByType = new HashMap<>();
+        countsByType.forEach((typeCode, count) -> nextByType.put(typeCode,
+            idAllocator.allocateBlock(company.getId(), "STORY-" + typeCode, count, () -> storyRepository.findMaxId() + 1)));
+        for (Object[] values : batch) {
+            String typeCode = typeCode(values);
+            long number = nextByType.merge(typeCode, 1L, Long::sum) - 1;
+            values[1] = company.getCode() + "-" + typeCode + String.format("%04d", number);
+        }
+    }
+    
+    private static List<SprintRollupService.Contribution> sprintContributions(List<Object[]> batch) {
+        List<SprintRollupService.Contribution> contributions = new ArrayList<>();
+        for (Object[] values : batch) {
+            if (values[13] != null) {
+                contributions.add(new SprintRollupService.Contribution((Long) values[13], (String) values[6], (Integer) values[9]));
+            }
+        }
+        return contributions;
+    }
+    
+    private static String typeCode(Object[] values) {
+        return ((String) values[4]).substring(0, 1);
+    }
+    
+    private Object[] toInsertValues(Long companyId, Long createdBy, Map<String, String> row, Set<Long> sprintIds,
+                                    Set<Long> userIds) {
+        String title = row.get("title");
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("title is required");
+        }
+        String type = row.get("type");
+        if (type == null || type.isBlank()) {
+            throw new IllegalArgumentException("type is required");
+        }
+        Integer storyPoints = parseInt(row, "storyPoints");
+        if (storyPoints != null && storyPoints < 0) {
+            throw new IllegalArgumentException("storyPoints must not be negative");
+        }
+        Integer progress = parseInt(row, "progress");
+        if (progress != null && (progress < 0 || progress > 100)) {
+            throw new IllegalArgumentException("progress must be between 0 and 100");
+        }
+        Long sprintId = parseLong(row, "sprintId");
+        if (sprintId != null && !sprintIds.contains(sprintId)) {
+            throw new IllegalArgumentException("Sprint not found with id: " + sprintId);
+        }
+        Long assigneeId = parseLong(row, "assigneeId");
+        if (assigneeId != null && !userIds.contains(assigneeId)) {
+            throw new IllegalArgumentException("User not found with id: " + assigneeId);
+        }
+        LocalDate deadline;
+        try {
+            deadline = row.get("deadline") != null ? LocalDate.parse(row.get("deadline")) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("deadline must be an ISO date (yyyy-MM-dd): " + row.get("deadline"));
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new Object[] {
+            companyId, null, checkLength(title.trim(), "title", 200), row.get("description"),
+            checkLength(type.trim(), "type", 20), checkLength(row.get("priority"), "priority", 20),
+            checkLength(row.get("status"), "status", 20), assigneeId,
+            checkLength(row.get("assigneeName"), "assigneeName", 100), storyPoints,
+            progress != null ? progress : 0, deadline != null ? Date.valueOf(deadline) : null,
+            row.get("acceptanceCriteria"), sprintId, createdBy, now, now
+        };
+    }
+    
+    private static String checkLength(String value, String column, int max) {
+        if (value != null && value.length() > max) {
+            throw new IllegalArgumentException(column + " must be at most " + max + " characters");
+        }
+        return value;
+    }
+    
+    private static Integer parseInt(Map<String, String> row, String column) {
+        String value = row.get(column);
+        try {
+            return value != null ? Integer.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a number: " + value);
+        }
+    }
+    
+    private static Long parseLong(Map<String, String> row, String column) {
+        String value = row.get(column);
+        try {
+            return value != null ? Long.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a number: " + value);
+        }
+    }
+    
+    private void addError(StoryImportResult result, long line, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new StoryImportError(line, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+    
+    // Header names match case-insensitively and may use snake_case
+    private static String canonicalColumn(String header) {
+        String normalized = header.replace("\uFEFF", "").trim().replace("_", "").toLowerCase(Locale.ROOT);
+        for (String column : COLUMNS) {
+            if (column.toLowerCase(Locale.ROOT).equals(normalized)) {
+                return column;
+            }
+        }
+        return null;
+    }
+    
+    private record RawRow(long line, Map<String, String> values, String error) {
+    }
+}
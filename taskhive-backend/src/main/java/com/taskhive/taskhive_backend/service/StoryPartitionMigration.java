@@ -0,0 +1,76 @@
+package com.taskhive.taskhive_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+// Online part of the V13 migration: copies pre-existing stories into the partitioned table one
+// chunk per run, each chunk its own short transaction, and swaps the tables once the copy is
+// complete. Idle when there is nothing to move (H2, already swapped, or moved by the migration).
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoryPartitionMigration {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${taskhive.stories.partition-backfill.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${taskhive.stories.partition-backfill.chunk-size:5000}")
+    private int chunkSize;
+    
+    private volatile boolean finished;
+    
+    @Scheduled(fixedDelayString = "${taskhive.stories.partition-backfill.interval:500ms}",
+               initialDelayString = "${taskhive.stories.partition-backfill.initial-delay:30s}")
+    public void run() {
+        if (!enabled || finished) {
+            return;
+        }
+        if (!hasPartitionedCopy()) {
+            finished = true;
+            return;
+        }
+        try {
+            Integer copied = jdbcTemplate.queryForObject("SELECT stories_partition_backfill(?)", Integer.class, chunkSize);
+            if (copied != null && copied > 0) {
+                log.debug("Copied {} stories into the partitioned table", copied);
+                Counter.builder("taskhive.stories.partition-backfill.rows")
+                    .description("Existing stories copied into the partitioned table")
+                    .register(meterRegistry).increment(copied);
+                return;
+            }
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT stories_partition_swap()", Boolean.class))) {
+                log.info("Stories table swapped for the partitioned copy; the old table is kept as stories_unpartitioned");
+                finished = true;
+            }
+        } catch (DataAccessException e) {
+            // Usually the swap's lock timeout while the table is busy; the next run tries again
+            log.warn("Story partition migration step failed, retrying: {}", e.getMessage());
+        }
+    }
+    
+    private boolean hasPartitionedCopy() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (!"PostgreSQL".equals(metaData.getDatabaseProductName())) {
+                return false;
+            }
+            try (ResultSet tables = metaData.getTables(null, null, "stories_partitioned", null)) {
+                return tables.next();
+            }
+        }));
+    }
+}
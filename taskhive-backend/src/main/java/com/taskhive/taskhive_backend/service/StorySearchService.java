@@ -0,0 +1,7 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.dto.StoryPage;
+
+public interface StorySearchService {
+    StoryPage search(Long companyId, String query, String cursor, Integer limit);
+}
@@ -1,19 +1,21 @@
 package com.taskhive.taskhive_backend.service;
 
+import com.taskhive.taskhive_backend.dto.StoryPage;
+import com.taskhive.taskhive_backend.dto.StorySummary;
 import com.taskhive.taskhive_backend.model.Story;
 
 import java.util.List;
 
 public interface StoryService {
-    List<Story> getAllStoriesByCompany(Long companyId);
-    List<Story> getStoriesByType(Long companyId, String type);
-    List<Story> getStoriesBySprintId(Long sprintId);
+    List<StorySummary> getStorySummaries(Long companyId, String type);
+    StoryPage getStoriesPage(Long companyId, String type, String status, Long sprintId, String cursor, Integer limit);
+    List<StorySummary> getStorySummariesBySprintId(Long sprintId);
     List<Story> getAvailableStories(Long companyId);
     Story getStoryById(Long id);
     Story getStoryByStoryId(String storyId);
     Story createStory(Story story);
-    Story updateStory(Long id, Story story);
-    void deleteStory(Long id);
-    Story addStoryToSprint(Long storyId, Long sprintId);
-    Story removeStoryFromSprint(Long storyId);
+    Story updateStory(Long companyId, Long id, Story story);
+    void deleteStory(Long companyId, Long id);
+    Story addStoryToSprint(Long companyId, Long storyId, Long sprintId);
+    Story removeStoryFromSprint(Long companyId, Long storyId);
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.dto.UserMembership;
+import com.taskhive.taskhive_backend.model.CollectionVersion;
+import com.taskhive.taskhive_backend.model.Team;
+import com.taskhive.taskhive_backend.repository.TeamRepository;
+import com.taskhive.taskhive_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class TeamService {
+    
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+    private final ReferenceDataService referenceDataService;
+    private final CollectionVersionService collectionVersionService;
+    
+    @Transactional
+    public Map<String, Integer> updateMembers(Long teamId, List<String> memberNames) {
+        Team team = teamRepository.findById(teamId)
+            .orElseThrow(() -> new RuntimeException("Team not found with id: " + teamId));
+        Long companyId = team.getCompany().getId();
+        Set<String> requestedNames = new HashSet<>(memberNames);
+        
+        if (requestedNames.isEmpty()) {
+            int removed = userRepository.clearTeamForAll(teamId);
+            if (removed > 0) {
+                collectionVersionService.changed(companyId, CollectionVersion.Kind.USERS);
+            }
+            return Map.of("added", 0, "removed", removed);
+        }
+        
+        // Current members plus every user matching a requested name, in one indexed query.
+        // When names are duplicated the oldest user wins, as before.
+        Set<Long> currentMembers = new HashSet<>();
+        Map<String, UserMembership> requestedUsers = new LinkedHashMap<>();
+        for (UserMembership user : userRepository.findMembershipCandidates(companyId, teamId, requestedNames)) {
+            if (teamId.equals(user.getTeamId())) {
+                currentMembers.add(user.getId());
+            }
+            if (requestedNames.contains(user.getName())) {
+                requestedUsers.putIfAbsent(user.getName(), user);
+            }
+        }
+        
+        Set<Long> desiredMembers = new HashSet<>();
+        List<Long> toAdd = new ArrayList<>();
+        for (UserMembership user : requestedUsers.values()) {
+            desiredMembers.add(user.getId());
+            if (!teamId.equals(user.getTeamId())) {
+                toAdd.add(user.getId());
+            }
+        }
+        List<Long> toRemove = currentMembers.stream().filter(id -> !desiredMembers.contains(id)).toList();
+        
+        int removed = toRemove.isEmpty() ? 0 : userRepository.clearTeam(toRemove);
+        int added = toAdd.isEmpty() ? 0 : userRepository.assignTeam(teamId, toAdd);
+        if (removed + added > 0) {
+            collectionVersionService.changed(companyId, CollectionVersion.Kind.USERS);
+        }
+        return Map.of("added", added, "removed", removed);
+    }
+    
+    @Transactional
+    public void deleteTeam(Long teamId) {
+        // Detach all members with one statement, then drop the team in the same transaction
+        userRepository.clearTeamForAll(teamId);
+        teamRepository.findById(teamId).ifPresent(team -> {
+            teamRepository.delete(team);
+            Long companyId = team.getCompany().getId();
+            collectionVersionService.changed(companyId, CollectionVersion.Kind.TEAMS, CollectionVersion.Kind.USERS);
+            referenceDataService.evictTeams(companyId);
+        });
+    }
+}
@@ -1,14 +1,14 @@
 package com.taskhive.taskhive_backend.service;
 
+import com.taskhive.taskhive_backend.dto.UserSummary;
+import com.taskhive.taskhive_backend.model.CollectionVersion;
 import com.taskhive.taskhive_backend.model.User;
 import com.taskhive.taskhive_backend.model.Company;
-import com.taskhive.taskhive_backend.model.Team;
 import com.taskhive.taskhive_backend.repository.UserRepository;
-import com.taskhive.taskhive_backend.repository.CompanyRepository;
-import com.taskhive.taskhive_backend.repository.TeamRepository;
+import com.taskhive.taskhive_backend.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -17,14 +17,16 @@ import java.util.List;
 public class UserService {
     
     private final UserRepository userRepository;
-    private final CompanyRepository companyRepository;
-    private final TeamRepository teamRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final ReferenceDataService referenceDataService;
+    private final PasswordHashingService passwordHashingService;
+    private final CollectionVersionService collectionVersionService;
     
-    public List<User> getAllUsersByCompany(Long companyId) {
-        return userRepository.findByCompanyId(companyId);
+    @Transactional(readOnly = true)
+    public List<UserSummary> getAllUsersByCompany(Long companyId) {
+        return userRepository.findSummariesByCompanyId(companyId);
     }
     
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         return userRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
@@ -32,31 +34,22 @@ public class UserService {
     
     public User createUser(User user, String teamName) {
         // Get company - use the company from the user object if set, otherwise default to company ID 1
-        Company company;
-        if (user.getCompany() != null && user.getCompany().getId() != null) {
-            company = companyRepository.findById(user.getCompany().getId())
-                .orElseThrow(() -> new RuntimeException("Company not found"));
-        } else {
-            company = companyRepository.findById(1L)
-                .orElseThrow(() -> new RuntimeException("Default company not found"));
-        }
+        Long companyId = user.getCompany() != null && user.getCompany().getId() != null
+            ? user.getCompany().getId() : 1L;
+        Company company = referenceDataService.getCompany(companyId);
         user.setCompany(company);
         
         // Find team by name and set teamId
         if (teamName != null && !teamName.isEmpty()) {
-            List<Team> teams = teamRepository.findByCompanyId(company.getId());
-            Team team = teams.stream()
-                .filter(t -> t.getName().equals(teamName))
-                .findFirst()
-                .orElse(null);
-            if (team != null) {
-                user.setTeamId(team.getId());
+            Long teamId = referenceDataService.getTeamIdsByName(companyId).get(teamName);
+            if (teamId != null) {
+                user.setTeamId(teamId);
             }
         }
         
         // Set default password if not provided
         if (user.getPassword() == null || user.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode("password123"));
+            user.setPassword(passwordHashingService.encode("password123"));
         }
         
         // Set default status
@@ -69,7 +62,9 @@ public class UserService {
             user.setRole(User.Role.USER);
         }
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        collectionVersionService.changed(companyId, CollectionVersion.Kind.USERS);
+        return savedUser;
     }
     
     public User updateUser(Long id, User userDetails) {
@@ -81,11 +76,16 @@ public class UserService {
         user.setJobRole(userDetails.getJobRole());
         user.setTeamId(userDetails.getTeamId());
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        collectionVersionService.changed(savedUser.getCompany().getId(), CollectionVersion.Kind.USERS);
+        return savedUser;
     }
     
     public void deleteUser(Long id) {
         User user = getUserById(id);
         userRepository.delete(user);
+        // Their stories lose the assignee through the foreign key
+        collectionVersionService.changed(user.getCompany().getId(),
+            CollectionVersion.Kind.USERS, CollectionVersion.Kind.STORIES);
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.taskhive.taskhive_backend.service.impl;
+
+import com.taskhive.taskhive_backend.dto.DashboardStats;
+import com.taskhive.taskhive_backend.dto.SprintStatusCount;
+import com.taskhive.taskhive_backend.dto.StoryAggregate;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.repository.SprintRepository;
+import com.taskhive.taskhive_backend.repository.StoryRepository;
+import com.taskhive.taskhive_backend.service.AnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class AnalyticsServiceImpl implements AnalyticsService {
+    
+    private static final String UNSET = "None";
+    
+    private final StoryRepository storyRepository;
+    private final SprintRepository sprintRepository;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardStats getDashboardStats(Long companyId, boolean includeBreakdown) {
+        DashboardStats stats = new DashboardStats();
+        
+        // One grouped row per (status, type) pair - a handful of rows regardless of tenant size
+        Map<String, Long> countByStatus = new TreeMap<>();
+        Map<String, Long> pointsByStatus = new TreeMap<>();
+        Map<String, Long> pointsByType = new TreeMap<>();
+        for (StoryAggregate row : storyRepository.aggregateByStatusAndType(companyId)) {
+            String status = row.getStatus() != null ? row.getStatus() : UNSET;
+            String type = row.getType() != null ? row.getType() : UNSET;
+            countByStatus.merge(status, row.getStoryCount(), Long::sum);
+            pointsByStatus.merge(status, row.getStoryPoints(), Long::sum);
+            pointsByType.merge(type, row.getStoryPoints(), Long::sum);
+            stats.setTotalStories(stats.getTotalStories() + row.getStoryCount());
+        }
+        stats.setCompletedStories(countByStatus.getOrDefault("Completed", 0L));
+        stats.setInProgressStories(countByStatus.getOrDefault("In Progress", 0L));
+        stats.setPendingStories(countByStatus.getOrDefault("Pending", 0L));
+        
+        for (SprintStatusCount row : sprintRepository.countByStatus(companyId)) {
+            stats.setTotalSprints(stats.getTotalSprints() + row.getSprintCount());
+            if (row.getStatus() == Sprint.Status.ACTIVE) {
+                stats.setActiveSprints(row.getSprintCount());
+            }
+        }
+        
+        if (includeBreakdown) {
+            stats.setStoriesByStatus(countByStatus);
+            stats.setStoryPointsByStatus(pointsByStatus);
+            stats.setStoryPointsByType(pointsByType);
+        }
+        return stats;
+    }
+}
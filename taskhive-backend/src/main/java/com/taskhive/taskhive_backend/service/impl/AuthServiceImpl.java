@@ -1,10 +1,13 @@
 package com.taskhive.taskhive_backend.service.impl;
 
+import com.taskhive.taskhive_backend.model.CollectionVersion;
 import com.taskhive.taskhive_backend.model.User;
 import com.taskhive.taskhive_backend.repository.UserRepository;
+import com.taskhive.taskhive_backend.security.PasswordHashingService;
+import com.taskhive.taskhive_backend.security.TokenService;
 import com.taskhive.taskhive_backend.service.AuthService;
+import com.taskhive.taskhive_backend.service.CollectionVersionService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -15,7 +18,9 @@ import java.util.UUID;
 public class AuthServiceImpl implements AuthService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TokenService tokenService;
+    private final CollectionVersionService collectionVersionService;
     
     @Override
     public User validateToken(String token) {
@@ -31,12 +36,14 @@ public class AuthServiceImpl implements AuthService {
             throw new RuntimeException("Invalid or expired token");
         }
         
-        user.setPassword(passwordEncoder.encode(password));
+        user.setPassword(passwordHashingService.encode(password));
         user.setStatus(User.Status.ACTIVE);
         user.setPasswordResetToken(null);
         user.setPasswordResetExpires(null);
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        collectionVersionService.changed(savedUser.getCompany().getId(), CollectionVersion.Kind.USERS);
+        return savedUser;
     }
     
     @Override
@@ -44,7 +51,7 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashingService.matches(password, user.getPassword())) {
             throw new RuntimeException("Invalid credentials");
         }
         
@@ -52,8 +59,7 @@ public class AuthServiceImpl implements AuthService {
             throw new RuntimeException("Account not active");
         }
         
-        // TODO: Generate JWT token
-        return "jwt-token-placeholder";
+        return tokenService.issue(user);
     }
     
     @Override
@@ -62,6 +68,7 @@ public class AuthServiceImpl implements AuthService {
         user.setPasswordResetToken(token);
         user.setPasswordResetExpires(LocalDateTime.now().plusHours(24));
         userRepository.save(user);
+        collectionVersionService.changed(user.getCompany().getId(), CollectionVersion.Kind.USERS);
         return token;
     }
     
@@ -1,12 +1,23 @@
 package com.taskhive.taskhive_backend.service.impl;
 
+import com.taskhive.taskhive_backend.dto.SprintBoardEvent;
+import com.taskhive.taskhive_backend.dto.SprintSummary;
+import com.taskhive.taskhive_backend.model.CollectionVersion;
 import com.taskhive.taskhive_backend.model.Sprint;
 import com.taskhive.taskhive_backend.model.Company;
 import com.taskhive.taskhive_backend.repository.SprintRepository;
 import com.taskhive.taskhive_backend.repository.CompanyRepository;
+import com.taskhive.taskhive_backend.service.CollectionVersionService;
+import com.taskhive.taskhive_backend.service.IdAllocator;
+import com.taskhive.taskhive_backend.service.ReferenceDataService;
+import com.taskhive.taskhive_backend.service.SprintBurndownService;
+import com.taskhive.taskhive_backend.service.SprintRollupService;
 import com.taskhive.taskhive_backend.service.SprintService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -16,47 +27,70 @@ public class SprintServiceImpl implements SprintService {
     
     private final SprintRepository sprintRepository;
     private final CompanyRepository companyRepository;
+    private final IdAllocator idAllocator;
+    private final ReferenceDataService referenceDataService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SprintRollupService sprintRollupService;
+    private final SprintBurndownService sprintBurndownService;
+    private final CollectionVersionService collectionVersionService;
+    private final TransactionTemplate transactionTemplate;
     
     @Override
-    public List<Sprint> getAllSprintsByCompany(Long companyId) {
-        return sprintRepository.findByCompanyId(companyId);
+    @Transactional(readOnly = true)
+    public List<SprintSummary> getAllSprintsByCompany(Long companyId) {
+        return sprintRepository.findSummariesByCompanyId(companyId);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Sprint getSprintById(Long id) {
         return sprintRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Sprint not found with id: " + id));
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Sprint getSprintBySprintId(String sprintId) {
         return sprintRepository.findBySprintId(sprintId)
             .orElseThrow(() -> new RuntimeException("Sprint not found with sprintId: " + sprintId));
     }
     
     @Override
-    public Sprint getCurrentSprint(Long companyId) {
-        return sprintRepository.findByCompanyIdAndStatus(companyId, Sprint.Status.ACTIVE)
-            .orElseThrow(() -> new RuntimeException("No active sprint found"));
+    @Transactional(readOnly = true)
+    public SprintSummary getCurrentSprint(Long companyId) {
+        SprintSummary sprint = referenceDataService.findActiveSprint(companyId);
+        if (sprint == null) {
+            throw new RuntimeException("No active sprint found");
+        }
+        return sprint;
     }
     
+    // Not @Transactional: the sprintId number is reserved before the transaction (see IdAllocator)
     @Override
     public Sprint createSprint(Sprint sprint) {
-        // Set company if not set (default to company 1)
-        if (sprint.getCompany() == null) {
-            Company company = companyRepository.findById(1L)
-                .orElseThrow(() -> new RuntimeException("Default company not found"));
-            sprint.setCompany(company);
-        }
-        
-        // Generate sprint ID
-        long count = sprintRepository.count() + 1;
-        sprint.setSprintId("SPR-" + String.format("%03d", count));
+        Long companyId = sprint.getCompany() != null && sprint.getCompany().getId() != null
+            ? sprint.getCompany().getId() : 1L;
+        // Generate sprint ID, prefixed with the company code since the sequence is per company
+        long number = idAllocator.next(companyId, "SPRINT", () -> 1L);
         
-        return sprintRepository.save(sprint);
+        return transactionTemplate.execute(status -> {
+            // Resolve the company from the reference cache (default to company 1)
+            Company company = referenceDataService.getCompany(companyId);
+            sprint.setCompany(companyRepository.getReferenceById(companyId));
+            sprint.setSprintId(company.getCode() + "-SPR-" + String.format("%03d", number));
+            
+            // Progress comes from the sprint's rollup, which starts empty
+            sprint.setProgress(0);
+            Sprint savedSprint = sprintRepository.save(sprint);
+            collectionVersionService.changed(companyId, CollectionVersion.Kind.SPRINTS);
+            sprintRollupService.sprintCreated(savedSprint);
+            referenceDataService.evictActiveSprint(companyId);
+            return savedSprint;
+        });
     }
     
     @Override
+    @Transactional
     public Sprint updateSprint(Long id, Sprint sprint) {
         Sprint existingSprint = getSprintById(id);
         
@@ -65,21 +99,42 @@ public class SprintServiceImpl implements SprintService {
         existingSprint.setStartDate(sprint.getStartDate());
         existingSprint.setEndDate(sprint.getEndDate());
         existingSprint.setStatus(sprint.getStatus());
-        existingSprint.setProgress(sprint.getProgress());
         
-        return sprintRepository.save(existingSprint);
+        Sprint savedSprint = sprintRepository.save(existingSprint);
+        sprintRollupService.sprintStatusChanged(id, savedSprint.getStatus());
+        Long companyId = savedSprint.getCompany().getId();
+        collectionVersionService.changed(companyId, CollectionVersion.Kind.SPRINTS);
+        referenceDataService.evictActiveSprint(companyId);
+        eventPublisher.publishEvent(SprintBoardEvent.forSprint(companyId, savedSprint));
+        return savedSprint;
     }
     
     @Override
+    @Transactional
     public Sprint closeSprint(Long id) {
         Sprint sprint = getSprintById(id);
+        // Progress stays what the stories say; unfinished work is not reported as done
         sprint.setStatus(Sprint.Status.COMPLETED);
-        sprint.setProgress(100);
-        return sprintRepository.save(sprint);
+        Sprint savedSprint = sprintRepository.save(sprint);
+        sprintRollupService.sprintStatusChanged(id, savedSprint.getStatus());
+        Long companyId = savedSprint.getCompany().getId();
+        collectionVersionService.changed(companyId, CollectionVersion.Kind.SPRINTS);
+        referenceDataService.evictActiveSprint(companyId);
+        eventPublisher.publishEvent(SprintBoardEvent.forSprint(companyId, savedSprint));
+        return savedSprint;
     }
     
     @Override
+    @Transactional
     public void deleteSprint(Long id) {
-        sprintRepository.deleteById(id);
+        sprintRepository.findById(id).ifPresent(sprint -> {
+            sprintRollupService.sprintDeleted(id);
+            sprintBurndownService.sprintDeleted(id);
+            sprintRepository.delete(sprint);
+            Long companyId = sprint.getCompany().getId();
+            // Its stories lose their sprint_id through the foreign key
+            collectionVersionService.changed(companyId, CollectionVersion.Kind.SPRINTS, CollectionVersion.Kind.STORIES);
+            referenceDataService.evictActiveSprint(companyId);
+        });
     }
 }
\ No newline at end of file
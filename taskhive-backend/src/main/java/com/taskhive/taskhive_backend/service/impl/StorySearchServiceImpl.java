@@ -0,0 +1,134 @@
+package com.taskhive.taskhive_backend.service.impl;
+
+import com.taskhive.taskhive_backend.dto.StoryPage;
+import com.taskhive.taskhive_backend.dto.StorySummary;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.repository.StoryRepository;
+import com.taskhive.taskhive_backend.service.InMemoryStoryIndex;
+import com.taskhive.taskhive_backend.service.StorySearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Ranked story search. Uses the PostgreSQL search_vector column (V8 migration) when it exists,
+// otherwise the in-process InMemoryStoryIndex. taskhive.search.backend=auto|postgres|memory
+// forces a choice; auto decides on the first search.
+@Service
+@Slf4j
+public class StorySearchServiceImpl implements StorySearchService {
+    
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    
+    private final StoryRepository storyRepository;
+    private final InMemoryStoryIndex inMemoryStoryIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final String backend;
+    
+    private volatile Boolean fullTextSearch;
+    
+    public StorySearchServiceImpl(StoryRepository storyRepository,
+                                  InMemoryStoryIndex inMemoryStoryIndex,
+                                  JdbcTemplate jdbcTemplate,
+                                  @Value("${taskhive.search.backend:auto}") String backend) {
+        this.storyRepository = storyRepository;
+        this.inMemoryStoryIndex = inMemoryStoryIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.backend = backend;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public StoryPage search(Long companyId, String query, String cursor, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("Search query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new RuntimeException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        int offset = decodeCursor(cursor);
+        
+        // Fetch one extra row to know whether another page exists
+        List<StorySummary> rows = (useFullTextSearch()
+            ? storyRepository.searchRanked(companyId, query.trim(), pageSize + 1, offset)
+            : loadInOrder(inMemoryStoryIndex.search(companyId, query, offset, pageSize + 1)))
+            .stream().map(StorySummary::from).toList();
+        
+        if (rows.size() <= pageSize) {
+            return new StoryPage(rows, null);
+        }
+        return new StoryPage(rows.subList(0, pageSize), encodeCursor(offset + pageSize));
+    }
+    
+    private List<Story> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Story> byId = storyRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Story::getId, Function.identity()));
+        // A story deleted since the index was read is simply left out
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+    
+    private boolean useFullTextSearch() {
+        Boolean enabled = fullTextSearch;
+        if (enabled == null) {
+            enabled = switch (backend) {
+                case "postgres" -> true;
+                case "memory" -> false;
+                default -> hasSearchVectorColumn();
+            };
+            fullTextSearch = enabled;
+            log.info("Story search backend: {}", enabled ? "PostgreSQL full-text (search_vector)" : "in-memory index");
+        }
+        return enabled;
+    }
+    
+    private boolean hasSearchVectorColumn() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (!"PostgreSQL".equals(metaData.getDatabaseProductName())) {
+                return false;
+            }
+            try (ResultSet columns = metaData.getColumns(null, null, "stories", "search_vector")) {
+                return columns.next();
+            }
+        }));
+    }
+    
+    // The cursor is the offset of the next page, opaque to clients like the list cursor
+    private static String encodeCursor(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(("offset:" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static int decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith("offset:")) {
+                throw new IllegalArgumentException();
+            }
+            return Math.max(0, Integer.parseInt(decoded.substring(7)));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -1,80 +1,133 @@
 package com.taskhive.taskhive_backend.service.impl;
 
+import com.taskhive.taskhive_backend.dto.SprintBoardEvent;
+import com.taskhive.taskhive_backend.dto.StoryPage;
+import com.taskhive.taskhive_backend.dto.StorySummary;
+import com.taskhive.taskhive_backend.model.CollectionVersion;
 import com.taskhive.taskhive_backend.model.Story;
 import com.taskhive.taskhive_backend.model.Company;
 import com.taskhive.taskhive_backend.repository.StoryRepository;
 import com.taskhive.taskhive_backend.repository.CompanyRepository;
+import com.taskhive.taskhive_backend.service.CollectionVersionService;
+import com.taskhive.taskhive_backend.service.IdAllocator;
+import com.taskhive.taskhive_backend.service.ReferenceDataService;
+import com.taskhive.taskhive_backend.service.SprintRollupService;
+import com.taskhive.taskhive_backend.service.SprintRollupService.Contribution;
 import com.taskhive.taskhive_backend.service.StoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class StoryServiceImpl implements StoryService {
     
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    
     private final StoryRepository storyRepository;
     private final CompanyRepository companyRepository;
+    private final IdAllocator idAllocator;
+    private final ReferenceDataService referenceDataService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SprintRollupService sprintRollupService;
+    private final CollectionVersionService collectionVersionService;
+    private final TransactionTemplate transactionTemplate;
     
     @Override
-    public List<Story> getAllStoriesByCompany(Long companyId) {
-        return storyRepository.findByCompanyId(companyId);
+    @Transactional(readOnly = true)
+    public List<StorySummary> getStorySummaries(Long companyId, String type) {
+        return storyRepository.findSummariesByCompanyId(companyId, type);
     }
     
     @Override
-    public List<Story> getStoriesByType(Long companyId, String type) {
-        return storyRepository.findByCompanyIdAndType(companyId, type);
+    @Transactional(readOnly = true)
+    public StoryPage getStoriesPage(Long companyId, String type, String status, Long sprintId, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long afterId = decodeCursor(cursor);
+        
+        // Fetch one extra row to know whether another page exists
+        List<StorySummary> rows = storyRepository.findPageByCompanyId(companyId, afterId, type, status, sprintId,
+            PageRequest.of(0, pageSize + 1));
+        
+        if (rows.size() <= pageSize) {
+            return new StoryPage(rows, null);
+        }
+        List<StorySummary> items = rows.subList(0, pageSize);
+        return new StoryPage(items, encodeCursor(items.get(pageSize - 1).id()));
     }
     
     @Override
-    public List<Story> getStoriesBySprintId(Long sprintId) {
-        return storyRepository.findBySprintId(sprintId);
+    @Transactional(readOnly = true)
+    public List<StorySummary> getStorySummariesBySprintId(Long sprintId) {
+        return storyRepository.findSummariesBySprintId(sprintId);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Story> getAvailableStories(Long companyId) {
         return storyRepository.findByCompanyIdAndSprintIdIsNull(companyId);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Story getStoryById(Long id) {
         return storyRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Story not found with id: " + id));
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Story getStoryByStoryId(String storyId) {
         return storyRepository.findByStoryId(storyId)
             .orElseThrow(() -> new RuntimeException("Story not found with storyId: " + storyId));
     }
     
+    // Not @Transactional: the storyId number is reserved first, so the transaction that saves
+    // the story never waits for a second connection (see IdAllocator)
     @Override
     public Story createStory(Story story) {
-        // Set company if not set (default to company 1)
-        if (story.getCompany() == null) {
-            Company company = companyRepository.findById(1L)
-                .orElseThrow(() -> new RuntimeException("Default company not found"));
-            story.setCompany(company);
-        }
-        
+        Long companyId = story.getCompany() != null && story.getCompany().getId() != null
+            ? story.getCompany().getId() : 1L;
         // Generate story ID based on type and company
-        String prefix = story.getCompany().getCode() + "-" + 
-                       story.getType().substring(0, 1);
-        long count = storyRepository.count() + 1;
-        story.setStoryId(prefix + String.format("%04d", count));
+        String typeCode = story.getType().substring(0, 1);
+        // Legacy IDs were numbered from a global count, which never exceeds the max id
+        long number = idAllocator.next(companyId, "STORY-" + typeCode,
+            () -> storyRepository.findMaxId() + 1);
         
         // Set created by (default to admin user ID 1 for now)
         if (story.getCreatedBy() == null) {
             story.setCreatedBy(1L);
         }
         
-        return storyRepository.save(story);
+        return transactionTemplate.execute(status -> {
+            // Resolve the company from the reference cache (default to company 1)
+            Company company = referenceDataService.getCompany(companyId);
+            // Only the FK is written, so a reference avoids re-reading the company row
+            story.setCompany(companyRepository.getReferenceById(companyId));
+            story.setStoryId(company.getCode() + "-" + typeCode + String.format("%04d", number));
+            
+            Story savedStory = storyRepository.save(story);
+            collectionVersionService.changed(companyId, CollectionVersion.Kind.STORIES);
+            if (savedStory.getSprintId() != null) {
+                sprintRollupService.storyChanged(null, Contribution.of(savedStory));
+            }
+            return savedStory;
+        });
     }
     
     @Override
-    public Story updateStory(Long id, Story story) {
-        Story existingStory = getStoryById(id);
+    @Transactional
+    public Story updateStory(Long companyId, Long id, Story story) {
+        Story existingStory = lockStory(companyId, id);
+        Contribution before = Contribution.of(existingStory);
         
         existingStory.setTitle(story.getTitle());
         existingStory.setDescription(story.getDescription());
@@ -87,25 +140,83 @@ public class StoryServiceImpl implements StoryService {
         existingStory.setDeadline(story.getDeadline());
         existingStory.setAcceptanceCriteria(story.getAcceptanceCriteria());
         
-        return storyRepository.save(existingStory);
+        Story savedStory = storyRepository.save(existingStory);
+        storiesChanged(savedStory);
+        publishBoardEvent(SprintBoardEvent.STORY_UPDATED, savedStory, null);
+        sprintRollupService.storyChanged(before, Contribution.of(savedStory));
+        return savedStory;
     }
     
     @Override
-    public void deleteStory(Long id) {
-        storyRepository.deleteById(id);
+    @Transactional
+    public void deleteStory(Long companyId, Long id) {
+        storyRepository.findForUpdate(companyId, id).ifPresent(story -> {
+            sprintRollupService.storyChanged(Contribution.of(story), null);
+            storyRepository.delete(story);
+            storiesChanged(story);
+        });
     }
     
     @Override
-    public Story addStoryToSprint(Long storyId, Long sprintId) {
-        Story story = getStoryById(storyId);
+    @Transactional
+    public Story addStoryToSprint(Long companyId, Long storyId, Long sprintId) {
+        Story story = lockStory(companyId, storyId);
+        Contribution before = Contribution.of(story);
         story.setSprintId(sprintId);
-        return storyRepository.save(story);
+        Story savedStory = storyRepository.save(story);
+        storiesChanged(savedStory);
+        publishBoardEvent(SprintBoardEvent.STORY_ADDED, savedStory, before.sprintId());
+        sprintRollupService.storyChanged(before, Contribution.of(savedStory));
+        return savedStory;
     }
     
     @Override
-    public Story removeStoryFromSprint(Long storyId) {
-        Story story = getStoryById(storyId);
+    @Transactional
+    public Story removeStoryFromSprint(Long companyId, Long storyId) {
+        Story story = lockStory(companyId, storyId);
+        Contribution before = Contribution.of(story);
         story.setSprintId(null);
-        return storyRepository.save(story);
+        Story savedStory = storyRepository.save(story);
+        storiesChanged(savedStory);
+        publishBoardEvent(SprintBoardEvent.STORY_REMOVED, savedStory, before.sprintId());
+        sprintRollupService.storyChanged(before, Contribution.of(savedStory));
+        return savedStory;
+    }
+    
+    // The story's row lock is held until commit, so concurrent writes to one story compute their
+    // rollup delta from each other's result instead of both from the same stale state. Taken
+    // before the rollup locks, which SprintRollupService orders by sprint id.
+    private Story lockStory(Long companyId, Long id) {
+        return storyRepository.findForUpdate(companyId, id)
+            .orElseThrow(() -> new RuntimeException("Story not found with id: " + id));
+    }
+    
+    private void storiesChanged(Story story) {
+        collectionVersionService.changed(story.getCompany().getId(), CollectionVersion.Kind.STORIES);
+    }
+    
+    // Delivered to SSE subscribers once the change is committed (see SprintBoardEventBroker)
+    private void publishBoardEvent(String type, Story story, Long previousSprintId) {
+        eventPublisher.publishEvent(SprintBoardEvent.forStory(type, story.getCompany().getId(), story, previousSprintId));
+    }
+    
+    private static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(("id:" + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith("id:")) {
+                throw new IllegalArgumentException();
+            }
+            return Long.parseLong(decoded.substring(3));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
     }
 }
\ No newline at end of file
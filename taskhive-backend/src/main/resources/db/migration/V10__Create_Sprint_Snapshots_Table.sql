@@ -0,0 +1,19 @@
+-- Append-only burndown points per sprint. The index covers the series columns so a chart is
+-- one index-only range scan.
+CREATE TABLE IF NOT EXISTS sprint_snapshots (
+    id BIGSERIAL PRIMARY KEY,
+    sprint_id BIGINT NOT NULL REFERENCES sprints(id) ON DELETE CASCADE,
+    captured_at TIMESTAMP NOT NULL,
+    total_points INTEGER NOT NULL,
+    completed_points INTEGER NOT NULL,
+    story_count INTEGER NOT NULL,
+    completed_count INTEGER NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_sprint_snapshots_sprint_id_captured_at ON sprint_snapshots(sprint_id, captured_at)
+    INCLUDE (total_points, completed_points, story_count, completed_count);
+
+-- Starting point for existing sprints
+INSERT INTO sprint_snapshots (sprint_id, captured_at, total_points, completed_points, story_count, completed_count)
+SELECT sprint_id, CURRENT_TIMESTAMP, total_points, completed_points, story_count, completed_count
+FROM sprint_rollups;
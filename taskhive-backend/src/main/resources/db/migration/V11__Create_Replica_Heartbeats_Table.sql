@@ -0,0 +1,6 @@
+-- Heartbeat per application instance, written to the primary and read from the replica to
+-- measure replication lag
+CREATE TABLE IF NOT EXISTS replica_heartbeats (
+    instance_id VARCHAR(36) PRIMARY KEY,
+    beat_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,32 @@
+-- Brings both kinds of existing database to the schema the entities are validated against:
+-- ones built by V1 and ones built by Hibernate's ddl-auto=update (baselined at version 0, so
+-- every migration before this one re-ran idempotently against them).
+
+-- Stories record who created or imported them
+ALTER TABLE stories ADD COLUMN IF NOT EXISTS created_by BIGINT;
+
+-- Priority and status are free-form on the entity and may be unset; the defaults follow the
+-- values the application writes
+ALTER TABLE stories ALTER COLUMN priority DROP NOT NULL;
+ALTER TABLE stories ALTER COLUMN priority SET DEFAULT 'Medium';
+ALTER TABLE stories ALTER COLUMN status DROP NOT NULL;
+ALTER TABLE stories ALTER COLUMN status SET DEFAULT 'Pending';
+
+-- Stories outlive their sprint and assignee, and users their team. ddl-auto databases never
+-- had these keys, so clear references that no longer resolve before adding them.
+UPDATE stories st SET sprint_id = NULL
+WHERE st.sprint_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM sprints sp WHERE sp.id = st.sprint_id);
+UPDATE stories st SET assignee_id = NULL
+WHERE st.assignee_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM users u WHERE u.id = st.assignee_id);
+UPDATE users u SET team_id = NULL
+WHERE u.team_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM teams t WHERE t.id = u.team_id);
+
+ALTER TABLE stories DROP CONSTRAINT IF EXISTS stories_sprint_id_fkey;
+ALTER TABLE stories ADD CONSTRAINT stories_sprint_id_fkey
+    FOREIGN KEY (sprint_id) REFERENCES sprints(id) ON DELETE SET NULL;
+ALTER TABLE stories DROP CONSTRAINT IF EXISTS stories_assignee_id_fkey;
+ALTER TABLE stories ADD CONSTRAINT stories_assignee_id_fkey
+    FOREIGN KEY (assignee_id) REFERENCES users(id) ON DELETE SET NULL;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_team_id_fkey;
+ALTER TABLE users ADD CONSTRAINT users_team_id_fkey
+    FOREIGN KEY (team_id) REFERENCES teams(id) ON DELETE SET NULL;
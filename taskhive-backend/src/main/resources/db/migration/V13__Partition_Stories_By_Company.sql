@@ -0,0 +1,187 @@
+-- Stories are hash-partitioned by company_id, so every company-scoped query touches one
+-- partition and a large tenant's churn is vacuumed and indexed in its own slice of the table.
+-- Keys must contain the partition key: the primary key becomes (company_id, id), which also
+-- serves keyset pagination, and story_id is unique per company (it carries the company code).
+-- A partition that grows too large can later be split by replacing it with two partitions of
+-- twice the modulus (remainders r and r + 16).
+--
+-- Existing rows move online. This migration only creates the partitioned copy and a trigger
+-- that mirrors every write to stories into it; StoryPartitionMigration then copies the older
+-- rows in short chunks (stories_partition_backfill) and swaps the tables under a brief lock
+-- (stories_partition_swap). Small databases, including new ones, are copied and swapped here.
+-- The old table is kept as stories_unpartitioned, unless empty, and can be dropped once checked.
+
+CREATE TABLE IF NOT EXISTS stories_partitioned (
+    id BIGSERIAL NOT NULL,
+    company_id BIGINT NOT NULL,
+    story_id VARCHAR(20) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    type VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) DEFAULT 'Medium',
+    status VARCHAR(20) DEFAULT 'Pending',
+    assignee_id BIGINT,
+    assignee_name VARCHAR(100),
+    story_points INTEGER,
+    progress INTEGER DEFAULT 0,
+    deadline DATE,
+    acceptance_criteria TEXT,
+    sprint_id BIGINT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    search_vector tsvector,
+    created_by BIGINT,
+    CONSTRAINT stories_partitioned_pkey PRIMARY KEY (company_id, id),
+    CONSTRAINT stories_partitioned_company_id_story_id_key UNIQUE (company_id, story_id),
+    CONSTRAINT stories_company_id_fkey FOREIGN KEY (company_id) REFERENCES companies(id),
+    CONSTRAINT stories_sprint_id_fkey FOREIGN KEY (sprint_id) REFERENCES sprints(id) ON DELETE SET NULL,
+    CONSTRAINT stories_assignee_id_fkey FOREIGN KEY (assignee_id) REFERENCES users(id) ON DELETE SET NULL
+) PARTITION BY HASH (company_id);
+
+DO $$
+BEGIN
+    FOR remainder IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS stories_p%s PARTITION OF stories_partitioned '
+                       'FOR VALUES WITH (MODULUS 16, REMAINDER %s)', lpad(remainder::text, 2, '0'), remainder);
+    END LOOP;
+END
+$$;
+
+-- Created on every partition. The company-scoped lookups use the primary key and the unique
+-- key; these serve sprint boards, the overdue sweep, filters and search within a partition.
+CREATE INDEX IF NOT EXISTS idx_stories_partitioned_sprint_id ON stories_partitioned(sprint_id);
+CREATE INDEX IF NOT EXISTS idx_stories_partitioned_deadline_status ON stories_partitioned(deadline, status);
+CREATE INDEX IF NOT EXISTS idx_stories_partitioned_type ON stories_partitioned(type);
+CREATE INDEX IF NOT EXISTS idx_stories_partitioned_assignee_id ON stories_partitioned(assignee_id);
+CREATE INDEX IF NOT EXISTS idx_stories_partitioned_search_vector ON stories_partitioned USING GIN (search_vector);
+
+-- Backfill position: rows up to copy_until existed before the trigger and are copied in
+-- chunks; later rows reach the copy through the trigger
+CREATE TABLE IF NOT EXISTS stories_partition_progress (
+    copied_through BIGINT NOT NULL,
+    copy_until BIGINT NOT NULL
+);
+
+-- Columns are listed because their order differs between databases built by V1 and by ddl-auto
+CREATE OR REPLACE FUNCTION stories_partition_sync() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM stories_partitioned WHERE company_id = OLD.company_id AND id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO stories_partitioned (id, company_id, story_id, title, description, type, priority,
+                                         status, assignee_id, assignee_name, story_points, progress,
+                                         deadline, acceptance_criteria, sprint_id, created_at,
+                                         updated_at, search_vector, created_by)
+        VALUES (NEW.id, NEW.company_id, NEW.story_id, NEW.title, NEW.description, NEW.type, NEW.priority,
+                NEW.status, NEW.assignee_id, NEW.assignee_name, NEW.story_points, NEW.progress,
+                NEW.deadline, NEW.acceptance_criteria, NEW.sprint_id, NEW.created_at,
+                NEW.updated_at, NEW.search_vector, NEW.created_by);
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+-- Copies the next chunk of pre-existing rows and returns how many were read; 0 once done.
+-- The progress row lock keeps instances from copying the same chunk, and FOR SHARE holds
+-- writers to these rows back until the chunk commits, so the trigger applies their change
+-- to the copied row instead of racing the copy.
+CREATE OR REPLACE FUNCTION stories_partition_backfill(chunk_size INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    backfill stories_partition_progress%ROWTYPE;
+    copied INTEGER;
+    last_id BIGINT;
+BEGIN
+    SELECT * INTO backfill FROM stories_partition_progress FOR UPDATE;
+    IF backfill.copied_through >= backfill.copy_until THEN
+        RETURN 0;
+    END IF;
+
+    WITH chunk AS (
+        SELECT id, company_id, story_id, title, description, type, priority, status, assignee_id,
+               assignee_name, story_points, progress, deadline, acceptance_criteria, sprint_id,
+               created_at, updated_at, search_vector, created_by
+        FROM stories
+        WHERE id > backfill.copied_through AND id <= backfill.copy_until
+        ORDER BY id
+        LIMIT chunk_size
+        FOR SHARE
+    ), copied_rows AS (
+        INSERT INTO stories_partitioned (id, company_id, story_id, title, description, type, priority,
+                                         status, assignee_id, assignee_name, story_points, progress,
+                                         deadline, acceptance_criteria, sprint_id, created_at,
+                                         updated_at, search_vector, created_by)
+        SELECT * FROM chunk
+        ON CONFLICT DO NOTHING
+    )
+    SELECT COUNT(*), MAX(id) INTO copied, last_id FROM chunk;
+
+    UPDATE stories_partition_progress SET copied_through = COALESCE(last_id, copy_until);
+    RETURN copied;
+END
+$$ LANGUAGE plpgsql;
+
+-- Replaces stories with the partitioned copy once the backfill is done. Returns false while
+-- rows remain; fails with lock_timeout instead of stalling traffic when the table is busy.
+CREATE OR REPLACE FUNCTION stories_partition_swap() RETURNS BOOLEAN AS $$
+DECLARE
+    index_name TEXT;
+BEGIN
+    IF to_regclass('stories_partitioned') IS NULL THEN
+        RETURN TRUE;
+    END IF;
+    IF EXISTS (SELECT 1 FROM stories_partition_progress WHERE copied_through < copy_until) THEN
+        RETURN FALSE;
+    END IF;
+
+    LOCK TABLE stories, stories_partitioned IN ACCESS EXCLUSIVE MODE;
+    DROP TRIGGER IF EXISTS stories_partition_sync ON stories;
+    DROP TRIGGER IF EXISTS trg_stories_search_vector ON stories;
+
+    ALTER TABLE stories RENAME TO stories_unpartitioned;
+    FOR index_name IN SELECT indexrelid::regclass::text FROM pg_index
+                      WHERE indrelid = 'stories_unpartitioned'::regclass LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', index_name, left(index_name, 49) || '_unpartitioned');
+    END LOOP;
+    ALTER SEQUENCE IF EXISTS stories_id_seq RENAME TO stories_unpartitioned_id_seq;
+
+    ALTER TABLE stories_partitioned RENAME TO stories;
+    FOR index_name IN SELECT indexrelid::regclass::text FROM pg_index
+                      WHERE indrelid = 'stories'::regclass LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', index_name, replace(index_name, 'stories_partitioned', 'stories'));
+    END LOOP;
+    ALTER SEQUENCE stories_partitioned_id_seq RENAME TO stories_id_seq;
+    PERFORM setval('stories_id_seq', COALESCE((SELECT MAX(id) FROM stories_unpartitioned), 0) + 1, false);
+
+    CREATE TRIGGER trg_stories_search_vector
+        BEFORE INSERT OR UPDATE OF title, description, acceptance_criteria ON stories
+        FOR EACH ROW EXECUTE FUNCTION stories_search_vector_update();
+
+    DROP TABLE stories_partition_progress;
+    RETURN TRUE;
+END
+$$ LANGUAGE plpgsql SET lock_timeout = '2s';
+
+-- Creating the trigger waits for in-flight writes, so every row above copy_until is mirrored
+DROP TRIGGER IF EXISTS stories_partition_sync ON stories;
+CREATE TRIGGER stories_partition_sync
+    AFTER INSERT OR UPDATE OR DELETE ON stories
+    FOR EACH ROW EXECUTE FUNCTION stories_partition_sync();
+
+INSERT INTO stories_partition_progress (copied_through, copy_until)
+SELECT 0, COALESCE(MAX(id), 0) FROM stories
+WHERE NOT EXISTS (SELECT 1 FROM stories_partition_progress);
+
+-- Up to 10,000 rows are moved within the migration
+DO $$
+BEGIN
+    IF (SELECT COUNT(*) FROM (SELECT 1 FROM stories LIMIT 10000) sample) < 10000 THEN
+        WHILE stories_partition_backfill(10000) > 0 LOOP
+        END LOOP;
+        PERFORM stories_partition_swap();
+        IF NOT EXISTS (SELECT 1 FROM stories_unpartitioned) THEN
+            DROP TABLE stories_unpartitioned;
+        END IF;
+    END IF;
+END
+$$;
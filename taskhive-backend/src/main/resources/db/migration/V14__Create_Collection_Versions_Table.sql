@@ -0,0 +1,8 @@
+-- Per-company change counters behind the ETags of the polled list endpoints, incremented by
+-- every write in the writer's own transaction
+CREATE TABLE IF NOT EXISTS collection_versions (
+    company_id BIGINT NOT NULL,
+    collection VARCHAR(20) NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (company_id, collection)
+);
@@ -1,5 +1,5 @@
 -- Create companies table
-CREATE TABLE companies (
+CREATE TABLE IF NOT EXISTS companies (
     id BIGSERIAL PRIMARY KEY,
     name VARCHAR(100) UNIQUE NOT NULL,
     code VARCHAR(10) UNIQUE NOT NULL,
@@ -11,7 +11,7 @@ CREATE TABLE companies (
 );
 
 -- Create teams table
-CREATE TABLE teams (
+CREATE TABLE IF NOT EXISTS teams (
     id BIGSERIAL PRIMARY KEY,
     company_id BIGINT NOT NULL REFERENCES companies(id),
     name VARCHAR(100) NOT NULL,
@@ -21,7 +21,7 @@ CREATE TABLE teams (
 );
 
 -- Create users table
-CREATE TABLE users (
+CREATE TABLE IF NOT EXISTS users (
     id BIGSERIAL PRIMARY KEY,
     company_id BIGINT NOT NULL REFERENCES companies(id),
     employee_id VARCHAR(50) NOT NULL,
@@ -40,7 +40,7 @@ CREATE TABLE users (
 );
 
 -- Create sprints table
-CREATE TABLE sprints (
+CREATE TABLE IF NOT EXISTS sprints (
     id BIGSERIAL PRIMARY KEY,
     company_id BIGINT NOT NULL REFERENCES companies(id),
     sprint_id VARCHAR(20) UNIQUE NOT NULL,
@@ -55,7 +55,7 @@ CREATE TABLE sprints (
 );
 
 -- Create stories table
-CREATE TABLE stories (
+CREATE TABLE IF NOT EXISTS stories (
     id BIGSERIAL PRIMARY KEY,
     company_id BIGINT NOT NULL REFERENCES companies(id),
     story_id VARCHAR(20) UNIQUE NOT NULL,
@@ -76,8 +76,8 @@ CREATE TABLE stories (
 );
 
 -- Create indexes
-CREATE INDEX idx_teams_company_id ON teams(company_id);
-CREATE INDEX idx_users_company_id ON users(company_id);
-CREATE INDEX idx_sprints_company_id ON sprints(company_id);
-CREATE INDEX idx_stories_company_id ON stories(company_id);
-CREATE INDEX idx_stories_sprint_id ON stories(sprint_id);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_teams_company_id ON teams(company_id);
+CREATE INDEX IF NOT EXISTS idx_users_company_id ON users(company_id);
+CREATE INDEX IF NOT EXISTS idx_sprints_company_id ON sprints(company_id);
+CREATE INDEX IF NOT EXISTS idx_stories_company_id ON stories(company_id);
+CREATE INDEX IF NOT EXISTS idx_stories_sprint_id ON stories(sprint_id);
\ No newline at end of file
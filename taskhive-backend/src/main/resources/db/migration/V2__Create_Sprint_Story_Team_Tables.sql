@@ -1,55 +1,4 @@
--- Create teams table
-CREATE TABLE teams (
-    id BIGSERIAL PRIMARY KEY,
-    company_id BIGINT NOT NULL REFERENCES companies(id),
-    name VARCHAR(100) NOT NULL,
-    description TEXT,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
-
--- Create sprints table
-CREATE TABLE sprints (
-    id BIGSERIAL PRIMARY KEY,
-    company_id BIGINT NOT NULL REFERENCES companies(id),
-    sprint_id VARCHAR(20) UNIQUE NOT NULL,
-    name VARCHAR(100) NOT NULL,
-    description TEXT,
-    start_date DATE NOT NULL,
-    end_date DATE NOT NULL,
-    status VARCHAR(20) NOT NULL DEFAULT 'PLANNING',
-    progress INTEGER DEFAULT 0,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
-
--- Create stories table
-CREATE TABLE stories (
-    id BIGSERIAL PRIMARY KEY,
-    company_id BIGINT NOT NULL REFERENCES companies(id),
-    story_id VARCHAR(20) UNIQUE NOT NULL,
-    title VARCHAR(200) NOT NULL,
-    description TEXT,
-    type VARCHAR(20) NOT NULL,
-    priority VARCHAR(20) NOT NULL DEFAULT 'MEDIUM',
-    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
-    assignee_id BIGINT REFERENCES users(id),
-    assignee_name VARCHAR(100),
-    story_points INTEGER,
-    progress INTEGER DEFAULT 0,
-    deadline DATE,
-    acceptance_criteria TEXT,
-    sprint_id BIGINT REFERENCES sprints(id),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
-
--- Create indexes for better performance
-CREATE INDEX idx_teams_company_id ON teams(company_id);
-CREATE INDEX idx_sprints_company_id ON sprints(company_id);
-CREATE INDEX idx_sprints_status ON sprints(status);
-CREATE INDEX idx_stories_company_id ON stories(company_id);
-CREATE INDEX idx_stories_type ON stories(type);
-CREATE INDEX idx_stories_sprint_id ON stories(sprint_id);
-CREATE INDEX idx_stories_assignee_id ON stories(assignee_id);
-
+-- teams, sprints and stories are created by V1; this adds the remaining lookup indexes
+CREATE INDEX IF NOT EXISTS idx_sprints_status ON sprints(status);
+CREATE INDEX IF NOT EXISTS idx_stories_type ON stories(type);
+CREATE INDEX IF NOT EXISTS idx_stories_assignee_id ON stories(assignee_id);
@@ -0,0 +1,2 @@
+-- Keyset pagination over a company's stories walks (company_id, id)
+CREATE INDEX IF NOT EXISTS idx_stories_company_id_id ON stories(company_id, id);
@@ -0,0 +1,2 @@
+-- Supports the nightly overdue sweep (deadline < today AND status NOT IN ...)
+CREATE INDEX IF NOT EXISTS idx_stories_deadline_status ON stories(deadline, status);
@@ -0,0 +1,8 @@
+-- Per-company sequences for human-readable story/sprint IDs, reserved in blocks
+CREATE TABLE IF NOT EXISTS id_blocks (
+    company_id BIGINT NOT NULL,
+    sequence_name VARCHAR(30) NOT NULL,
+    next_value BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (company_id, sequence_name)
+);
@@ -0,0 +1,2 @@
+-- Team member listings look users up by company and team
+CREATE INDEX IF NOT EXISTS idx_users_company_id_team_id ON users(company_id, team_id);
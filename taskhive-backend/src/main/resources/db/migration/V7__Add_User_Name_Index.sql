@@ -0,0 +1,2 @@
+-- Team membership updates resolve users by name within a company
+CREATE INDEX IF NOT EXISTS idx_users_company_id_name ON users(company_id, name);
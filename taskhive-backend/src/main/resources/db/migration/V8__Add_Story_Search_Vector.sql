@@ -0,0 +1,23 @@
+-- Full-text search over title (weight A), description (B) and acceptance criteria (C).
+-- The column is maintained by a trigger, so JDBC batch imports are covered as well.
+ALTER TABLE stories ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION stories_search_vector_update() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(NEW.description, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(NEW.acceptance_criteria, '')), 'C');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_stories_search_vector ON stories;
+CREATE TRIGGER trg_stories_search_vector
+    BEFORE INSERT OR UPDATE OF title, description, acceptance_criteria ON stories
+    FOR EACH ROW EXECUTE FUNCTION stories_search_vector_update();
+
+-- Backfill existing rows (fires the trigger)
+UPDATE stories SET title = title WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_stories_search_vector ON stories USING GIN (search_vector);
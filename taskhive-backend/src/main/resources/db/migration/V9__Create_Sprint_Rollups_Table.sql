@@ -0,0 +1,53 @@
+-- Per-sprint story counts and points, maintained incrementally by the application
+CREATE TABLE IF NOT EXISTS sprint_rollups (
+    sprint_id BIGINT PRIMARY KEY REFERENCES sprints(id) ON DELETE CASCADE,
+    company_id BIGINT NOT NULL,
+    story_count BIGINT NOT NULL DEFAULT 0,
+    pending_count BIGINT NOT NULL DEFAULT 0,
+    in_progress_count BIGINT NOT NULL DEFAULT 0,
+    completed_count BIGINT NOT NULL DEFAULT 0,
+    overdue_count BIGINT NOT NULL DEFAULT 0,
+    total_points BIGINT NOT NULL DEFAULT 0,
+    committed_points BIGINT NOT NULL DEFAULT 0,
+    completed_points BIGINT NOT NULL DEFAULT 0,
+    committed_at TIMESTAMP,
+    progress INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_sprint_rollups_company_id ON sprint_rollups(company_id);
+
+-- Backfill from existing stories; sprints already past planning keep their current scope as committed.
+-- Every column is listed: a table created by ddl-auto has no column defaults.
+INSERT INTO sprint_rollups (sprint_id, company_id, story_count, pending_count, in_progress_count,
+                            completed_count, overdue_count, total_points, committed_points,
+                            completed_points, committed_at, progress, updated_at)
+SELECT sp.id, sp.company_id,
+       COUNT(st.id),
+       COUNT(st.id) FILTER (WHERE st.status = 'Pending'),
+       COUNT(st.id) FILTER (WHERE st.status = 'In Progress'),
+       COUNT(st.id) FILTER (WHERE st.status = 'Completed'),
+       COUNT(st.id) FILTER (WHERE st.status = 'Overdue'),
+       COALESCE(SUM(st.story_points), 0),
+       COALESCE(SUM(st.story_points), 0),
+       COALESCE(SUM(st.story_points) FILTER (WHERE st.status = 'Completed'), 0),
+       CASE WHEN sp.status <> 'PLANNING' THEN CURRENT_TIMESTAMP END,
+       0,
+       CURRENT_TIMESTAMP
+FROM sprints sp
+LEFT JOIN stories st ON st.sprint_id = sp.id
+GROUP BY sp.id, sp.company_id, sp.status
+ON CONFLICT (sprint_id) DO NOTHING;
+
+-- Same rule as SprintRollup: by points when estimated, otherwise by completed stories
+UPDATE sprint_rollups
+SET progress = CASE
+    WHEN total_points > 0 THEN (completed_points * 100 / total_points)::INTEGER
+    WHEN story_count > 0 THEN (completed_count * 100 / story_count)::INTEGER
+    ELSE 0
+END;
+
+UPDATE sprints sp
+SET progress = r.progress, updated_at = CURRENT_TIMESTAMP
+FROM sprint_rollups r
+WHERE r.sprint_id = sp.id AND sp.progress IS DISTINCT FROM r.progress;
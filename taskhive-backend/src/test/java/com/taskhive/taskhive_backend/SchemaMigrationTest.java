@@ -0,0 +1,114 @@
+package com.taskhive.taskhive_backend;
+
+import com.taskhive.taskhive_backend.dto.StorySummary;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.repository.CompanyRepository;
+import com.taskhive.taskhive_backend.service.StorySearchService;
+import com.taskhive.taskhive_backend.service.StoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The migrations against PostgreSQL: the H2 test profile builds its schema with ddl-auto instead
+class SchemaMigrationTest {
+    
+    private static final List<String> ALL_VERSIONS =
+        List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14");
+    
+    @Test
+    void newDatabaseIsMigratedAndValidatedAndWarmBootsSkipSeeding() {
+        try (TestPostgres.Database database = TestPostgres.createDatabase()) {
+            ConfigurableApplicationContext context = database.boot();
+            JdbcTemplate jdbc = database.jdbc();
+            
+            assertThat(appliedVersions(jdbc)).containsExactlyElementsOf(ALL_VERSIONS);
+            // A new database is small enough to be partitioned within V13, and the empty old table is dropped
+            assertThat(isPartitioned(jdbc, "stories")).isTrue();
+            assertThat(tableExists(jdbc, "stories_unpartitioned")).isFalse();
+            assertThat(tableExists(jdbc, "stories_partition_progress")).isFalse();
+            assertThat(countAdmins(jdbc)).isEqualTo(1);
+            
+            Company company = context.getBean(CompanyRepository.class).findFirstByOrderByIdAsc().orElseThrow();
+            StoryService storyService = context.getBean(StoryService.class);
+            Story exported = storyService.createStory(story(company, "Export invoices to PDF", null));
+            storyService.createStory(story(company, "Login page times out", "Sessions expire early"));
+            
+            // PostgreSQL full-text search through the V8 search_vector, with English stemming
+            List<StorySummary> hits = context.getBean(StorySearchService.class)
+                .search(company.getId(), "exporting invoice", null, null).getItems();
+            assertThat(hits).extracting(StorySummary::id).containsExactly(exported.getId());
+            // Both creates went through the PostgreSQL upsert of the ETag counter
+            assertThat(jdbc.queryForObject("SELECT version FROM collection_versions " +
+                "WHERE company_id = ? AND collection = 'STORIES'", Long.class, company.getId())).isEqualTo(2L);
+            
+            context.close();
+            database.boot();
+            assertThat(appliedVersions(jdbc)).containsExactlyElementsOf(ALL_VERSIONS);
+            assertThat(countAdmins(jdbc)).isEqualTo(1);
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM companies", Integer.class)).isEqualTo(1);
+        }
+    }
+    
+    @Test
+    void databaseBuiltByDdlAutoIsBaselinedAndBroughtToTheValidatedSchema() {
+        try (TestPostgres.Database database = TestPostgres.createDatabase()) {
+            // How databases were built before Flyway owned the schema
+            database.boot("spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=update").close();
+            JdbcTemplate jdbc = database.jdbc();
+            Long companyId = jdbc.queryForObject("SELECT MIN(id) FROM companies", Long.class);
+            // ddl-auto never created foreign keys for these, so references could dangle
+            jdbc.update("INSERT INTO stories (company_id, story_id, title, type, priority, status, progress, sprint_id, assignee_id) " +
+                "VALUES (?, 'EMP-U0001', 'Legacy story', 'User Story', 'High', 'Pending', 0, 999999, 999999)", companyId);
+            
+            database.boot();
+            
+            assertThat(jdbc.queryForList("SELECT version FROM flyway_schema_history WHERE type = 'BASELINE'", String.class))
+                .containsExactly("0");
+            assertThat(appliedVersions(jdbc)).containsExactlyElementsOf(ALL_VERSIONS);
+            assertThat(isPartitioned(jdbc, "stories")).isTrue();
+            assertThat(jdbc.queryForMap("SELECT title, priority, sprint_id, assignee_id FROM stories WHERE story_id = 'EMP-U0001'"))
+                .containsEntry("title", "Legacy story")
+                .containsEntry("priority", "High")
+                .containsEntry("sprint_id", null)
+                .containsEntry("assignee_id", null);
+            // The trigger-maintained column was filled in for the existing row
+            assertThat(jdbc.queryForObject("SELECT search_vector IS NOT NULL FROM stories WHERE story_id = 'EMP-U0001'", Boolean.class))
+                .isTrue();
+            assertThat(countAdmins(jdbc)).isEqualTo(1);
+        }
+    }
+    
+    private static List<String> appliedVersions(JdbcTemplate jdbc) {
+        return jdbc.queryForList("SELECT version FROM flyway_schema_history " +
+            "WHERE type = 'SQL' AND success ORDER BY installed_rank", String.class);
+    }
+    
+    private static boolean isPartitioned(JdbcTemplate jdbc, String table) {
+        return Boolean.TRUE.equals(jdbc.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))", Boolean.class, table));
+    }
+    
+    private static boolean tableExists(JdbcTemplate jdbc, String table) {
+        return Boolean.TRUE.equals(jdbc.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+    
+    private static int countAdmins(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM users WHERE email = 'root'", Integer.class);
+    }
+    
+    private static Story story(Company company, String title, String description) {
+        Story story = new Story();
+        story.setCompany(company);
+        story.setTitle(title);
+        story.setDescription(description);
+        story.setType("User Story");
+        story.setPriority("Medium");
+        story.setStatus("Pending");
+        return story;
+    }
+}
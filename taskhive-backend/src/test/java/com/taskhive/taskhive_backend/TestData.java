@@ -0,0 +1,94 @@
+package com.taskhive.taskhive_backend;
+
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.repository.CompanyRepository;
+import com.taskhive.taskhive_backend.repository.UserRepository;
+import com.taskhive.taskhive_backend.service.SprintService;
+import com.taskhive.taskhive_backend.service.StoryService;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fixtures for the integration tests (imported by @IntegrationTest). Test classes share one
+// context and database, so company codes, employee ids and emails carry a number that is
+// unique for the whole run. The new* builders return unsaved entities for tests that need
+// more than the defaults.
+@TestComponent
+public class TestData {
+    
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    
+    private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final StoryService storyService;
+    private final SprintService sprintService;
+    
+    public TestData(CompanyRepository companyRepository, UserRepository userRepository,
+                    StoryService storyService, SprintService sprintService) {
+        this.companyRepository = companyRepository;
+        this.userRepository = userRepository;
+        this.storyService = storyService;
+        this.sprintService = sprintService;
+    }
+    
+    // The code is the prefix plus the number, so story and sprint ids keep a recognisable prefix
+    public Company company(String codePrefix) {
+        int number = SEQUENCE.incrementAndGet();
+        Company company = new Company();
+        company.setName(codePrefix + " Co " + number);
+        company.setCode(codePrefix + number);
+        return companyRepository.save(company);
+    }
+    
+    public User user(Company company) {
+        return userRepository.save(newUser(company, "User " + SEQUENCE.incrementAndGet()));
+    }
+    
+    public Story story(Company company, String title) {
+        return storyService.createStory(newStory(company, title));
+    }
+    
+    public Story story(Company company, String title, Long sprintId) {
+        Story story = newStory(company, title);
+        story.setSprintId(sprintId);
+        return storyService.createStory(story);
+    }
+    
+    public Sprint sprint(Company company, String name) {
+        return sprintService.createSprint(newSprint(company, name));
+    }
+    
+    public static User newUser(Company company, String name) {
+        int number = SEQUENCE.incrementAndGet();
+        User user = new User();
+        user.setCompany(company);
+        user.setEmployeeId("E-" + number);
+        user.setName(name);
+        user.setEmail("user" + number + "@example.com");
+        return user;
+    }
+    
+    public static Story newStory(Company company, String title) {
+        Story story = new Story();
+        story.setCompany(company);
+        story.setTitle(title);
+        story.setType("Task");
+        story.setPriority("Medium");
+        story.setStatus("Pending");
+        story.setStoryPoints(3);
+        return story;
+    }
+    
+    public static Sprint newSprint(Company company, String name) {
+        Sprint sprint = new Sprint();
+        sprint.setCompany(company);
+        sprint.setName(name);
+        sprint.setStartDate(LocalDate.now());
+        sprint.setEndDate(LocalDate.now().plusWeeks(2));
+        return sprint;
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskhive.taskhive_backend;
+
+import org.junit.jupiter.api.Assumptions;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// PostgreSQL for the tests the H2 profile cannot cover (migrations, partitioning, full-text
+// search). Uses the server at TASKHIVE_TEST_POSTGRES_URL (a JDBC URL to any database on it, with
+// TASKHIVE_TEST_POSTGRES_USERNAME/_PASSWORD) when set, otherwise one Testcontainers container
+// per run. Every caller gets its own empty database on that server. With neither available
+// the calling test is skipped.
+public final class TestPostgres {
+    
+    private static final String IMAGE = "postgres:16-alpine";
+    
+    private static Server server;
+    
+    private TestPostgres() {
+    }
+    
+    public static synchronized Database createDatabase() {
+        if (server == null) {
+            server = startServer();
+        }
+        Assumptions.assumeTrue(server != null,
+            "No PostgreSQL for this test: set TASKHIVE_TEST_POSTGRES_URL or make Docker available");
+        String name = "taskhive_test_" + UUID.randomUUID().toString().replace("-", "");
+        server.admin().execute("CREATE DATABASE " + name);
+        return new Database(server, name);
+    }
+    
+    private static Server startServer() {
+        String url = setting("TASKHIVE_TEST_POSTGRES_URL");
+        if (url != null) {
+            return new Server(url, setting("TASKHIVE_TEST_POSTGRES_USERNAME", "postgres"),
+                setting("TASKHIVE_TEST_POSTGRES_PASSWORD", "postgres"));
+        }
+        if (!DockerClientFactory.instance().isDockerAvailable()) {
+            return null;
+        }
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(IMAGE);
+        container.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(container::stop));
+        return new Server(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+    
+    // Environment variable, or the same name as a system property (-DTASKHIVE_TEST_POSTGRES_URL=...)
+    private static String setting(String name) {
+        String value = System.getProperty(name, System.getenv(name));
+        return value == null || value.isBlank() ? null : value;
+    }
+    
+    private static String setting(String name, String defaultValue) {
+        String value = setting(name);
+        return value != null ? value : defaultValue;
+    }
+    
+    private record Server(String url, String username, String password) {
+        
+        private JdbcTemplate admin() {
+            return new JdbcTemplate(new DriverManagerDataSource(url, username, password));
+        }
+        
+        // Same server, options and credentials; only the database name differs
+        private String urlFor(String database) {
+            int path = url.indexOf('/', url.indexOf("//") + 2);
+            int options = url.indexOf('?', path);
+            return url.substring(0, path + 1) + database + (options >= 0 ? url.substring(options) : "");
+        }
+    }
+    
+    public static final class Database implements AutoCloseable {
+        
+        private final Server server;
+        private final String name;
+        private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+        
+        private Database(Server server, String name) {
+            this.server = server;
+            this.name = name;
+        }
+        
+        public String url() {
+            return server.urlFor(name);
+        }
+        
+        public DataSource dataSource() {
+            return new DriverManagerDataSource(url(), server.username(), server.password());
+        }
+        
+        public JdbcTemplate jdbc() {
+            return new JdbcTemplate(dataSource());
+        }
+        
+        // The application on the test profile, but on this database with Flyway and schema
+        // validation as in production. Extra properties override those; closed with the database.
+        public ConfigurableApplicationContext boot(String... properties) {
+            Map<String, String> arguments = new LinkedHashMap<>();
+            arguments.put("spring.datasource.url", url());
+            arguments.put("spring.datasource.username", server.username());
+            arguments.put("spring.datasource.password", server.password());
+            arguments.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+            arguments.put("spring.jpa.database-platform", "org.hibernate.dialect.PostgreSQLDialect");
+            arguments.put("spring.jpa.hibernate.ddl-auto", "validate");
+            arguments.put("spring.flyway.enabled", "true");
+            arguments.put("spring.main.web-application-type", "none");
+            for (String property : properties) {
+                int equals = property.indexOf('=');
+                arguments.put(property.substring(0, equals), property.substring(equals + 1));
+            }
+            // Command-line arguments take precedence over the profile's property files
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskhiveBackendApplication.class)
+                .profiles("test")
+                .run(arguments.entrySet().stream()
+                    .map(argument -> "--" + argument.getKey() + "=" + argument.getValue())
+                    .toArray(String[]::new));
+            contexts.add(context);
+            return context;
+        }
+        
+        @Override
+        public void close() {
+            contexts.forEach(ConfigurableApplicationContext::close);
+            server.admin().execute("DROP DATABASE IF EXISTS " + name + " WITH (FORCE)");
+        }
+    }
+}
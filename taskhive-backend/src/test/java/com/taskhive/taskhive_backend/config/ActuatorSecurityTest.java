@@ -0,0 +1,53 @@
+package com.taskhive.taskhive_backend.config;
+
+import com.taskhive.taskhive_backend.IntegrationTest;
+import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.repository.UserRepository;
+import com.taskhive.taskhive_backend.security.TokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class ActuatorSecurityTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private TokenService tokenService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Test
+    void healthIsOpen() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+    
+    @Test
+    void metricsAndCachesNeedAnAdminToken() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/actuator/caches")).andExpect(status().isUnauthorized());
+        
+        String userToken = "Bearer " + tokenService.issue(regularUser());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", userToken)).andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/caches").header("Authorization", userToken)).andExpect(status().isForbidden());
+        
+        String adminToken = "Bearer " + tokenService.issue(userRepository.findByEmail(DataInitializer.ADMIN_EMAIL).orElseThrow());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", adminToken)).andExpect(status().isOk());
+    }
+    
+    private static User regularUser() {
+        User user = new User();
+        user.setId(999L);
+        user.setName("Regular User");
+        user.setEmail("regular@example.com");
+        user.setRole(User.Role.USER);
+        return user;
+    }
+}
@@ -0,0 +1,159 @@
+package com.taskhive.taskhive_backend.config;
+
+import com.taskhive.taskhive_backend.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Routing decisions against two separate in-memory databases; "replication" is copying the
+// heartbeat rows by hand
+class ReplicaRoutingDataSourceTest {
+    
+    private static final String HEARTBEATS = "CREATE TABLE replica_heartbeats (instance_id VARCHAR(36) PRIMARY KEY, beat_at TIMESTAMP NOT NULL)";
+    
+    private JdbcDataSource primary;
+    private JdbcDataSource replica;
+    private ReplicaLagMonitor monitor;
+    private ReplicaRoutingDataSource routing;
+    private SimpleMeterRegistry meterRegistry;
+    
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(primary).execute(HEARTBEATS);
+        new JdbcTemplate(replica).execute(HEARTBEATS);
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(5), meterRegistry);
+        routing = new ReplicaRoutingDataSource(primary, replica, monitor, meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void writesAlwaysUseThePrimary() throws SQLException {
+        replicate();
+        assertThat(target(routing)).isEqualTo("primary");
+    }
+    
+    @Test
+    void readsUseTheReplicaOnlyOnceAHeartbeatHasArrived() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(monitor.getState()).isEqualTo(ReplicaLagMonitor.State.DOWN);
+        assertThat(target(routing)).isEqualTo("primary");
+        
+        monitor.check();
+        assertThat(monitor.getState()).isEqualTo(ReplicaLagMonitor.State.LAGGING);
+        assertThat(target(routing)).isEqualTo("primary");
+        
+        replicate();
+        assertThat(monitor.getState()).isEqualTo(ReplicaLagMonitor.State.UP);
+        assertThat(target(routing)).isEqualTo("replica");
+        assertThat(reads("replica")).isEqualTo(1);
+        assertThat(reads("primary")).isEqualTo(2);
+    }
+    
+    @Test
+    void aWriterReadsThePrimaryUntilTheReplicaHasReplayedTheirCommit() throws Exception {
+        replicate();
+        signIn(7L);
+        TransactionExecution write = mock(TransactionExecution.class);
+        when(write.isReadOnly()).thenReturn(false);
+        monitor.afterCommit(write, null);
+        
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(target(routing)).isEqualTo("primary");
+        signIn(8L);
+        assertThat(target(routing)).as("other users are not pinned").isEqualTo("replica");
+        
+        // A heartbeat written after the commit reaches the replica
+        Thread.sleep(5);
+        signIn(7L);
+        replicate();
+        assertThat(target(routing)).isEqualTo("replica");
+    }
+    
+    @Test
+    void failingReplicaFallsBackToThePrimaryAndMarksItDown() throws SQLException {
+        replicate();
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReplicaRoutingDataSource failing = new ReplicaRoutingDataSource(primary, broken, monitor, meterRegistry);
+        
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(target(failing)).isEqualTo("primary");
+        assertThat(monitor.getState()).isEqualTo(ReplicaLagMonitor.State.DOWN);
+    }
+    
+    @Test
+    void explicitCredentialsGoToThePrimary() throws SQLException {
+        replicate();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = routing.getConnection("sa", "")) {
+            assertThat(databaseName(connection)).isEqualTo("primary");
+        }
+    }
+    
+    // Writes a heartbeat and copies it to the replica, as replication would
+    private void replicate() {
+        monitor.check();
+        List<Map<String, Object>> rows = new JdbcTemplate(primary).queryForList("SELECT instance_id, beat_at FROM replica_heartbeats");
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.update("DELETE FROM replica_heartbeats");
+        rows.forEach(row -> replicaJdbc.update("INSERT INTO replica_heartbeats (instance_id, beat_at) VALUES (?, ?)",
+            row.get("instance_id"), row.get("beat_at")));
+        monitor.check();
+    }
+    
+    private String target(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return databaseName(connection);
+        }
+    }
+    
+    // Databases are named primary-<uuid> and replica-<uuid>
+    private static String databaseName(Connection connection) throws SQLException {
+        String url = connection.getMetaData().getURL();
+        return url.substring("jdbc:h2:mem:".length(), url.indexOf('-'));
+    }
+    
+    private double reads(String target) {
+        return meterRegistry.get("taskhive.datasource.reads").tag("target", target).counter().count();
+    }
+    
+    private static void signIn(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, 1L, "USER", "User " + userId, "user" + userId + "@example.com");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+    
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        return dataSource;
+    }
+}
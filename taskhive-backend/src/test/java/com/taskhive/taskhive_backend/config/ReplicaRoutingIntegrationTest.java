@@ -0,0 +1,94 @@
+package com.taskhive.taskhive_backend.config;
+
+import com.taskhive.taskhive_backend.TestData;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.security.AuthenticatedUser;
+import com.taskhive.taskhive_backend.service.StoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The local-replica profile end to end: two H2 databases, the replica refreshed by copying the
+// primary every simulated-lag. A writer must see their own change at once, which only the
+// primary has; other users see it once the copy lands, served by the replica.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary-${random.uuid};DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "taskhive.datasource.replica.url=jdbc:h2:mem:routing-replica-${random.uuid};DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+    "taskhive.datasource.replica.simulated-lag=1s"
+})
+@ActiveProfiles({"test", "local-replica"})
+@Import(TestData.class)
+class ReplicaRoutingIntegrationTest {
+    
+    @Autowired
+    private StoryService storyService;
+    
+    @Autowired
+    private TestData testData;
+    
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void writersReadTheirOwnWritesAndOthersReadTheReplica() throws Exception {
+        awaitReplicaUp();
+        Company company = testData.company("RTG");
+        
+        signIn(101L);
+        for (int i = 0; i < 5; i++) {
+            Story story = testData.story(company, "Written by 101, #" + i);
+            // Read-only, straight after the commit: the replica cannot have it yet
+            assertThat(storyService.getStoryById(story.getId()).getTitle()).isEqualTo("Written by 101, #" + i);
+        }
+        
+        // Reads go to the primary while a copy is loading, so poll until the replica answers
+        signIn(202L);
+        Long companyId = company.getId();
+        boolean replicaHasThem = false;
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (!replicaHasThem && System.nanoTime() < deadline) {
+            double replicaReadsBefore = replicaReads();
+            int found = storyService.getStorySummaries(companyId, null).size();
+            replicaHasThem = replicaReads() > replicaReadsBefore && found == 5;
+            Thread.sleep(50);
+        }
+        assertThat(replicaHasThem).as("a replica read returned all five stories").isTrue();
+    }
+    
+    private void awaitReplicaUp() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (replicaLagMonitor.getState() != ReplicaLagMonitor.State.UP && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(replicaLagMonitor.getState()).isEqualTo(ReplicaLagMonitor.State.UP);
+    }
+    
+    private double replicaReads() {
+        return meterRegistry.get("taskhive.datasource.reads").tag("target", "replica").counter().count();
+    }
+    
+    private static void signIn(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, 1L, "USER", "User " + userId, "user" + userId + "@example.com");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+}
@@ -0,0 +1,193 @@
+package com.taskhive.taskhive_backend.controller;
+
+import com.taskhive.taskhive_backend.IntegrationTest;
+import com.taskhive.taskhive_backend.TestData;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.model.Team;
+import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.repository.TeamRepository;
+import com.taskhive.taskhive_backend.repository.UserRepository;
+import com.taskhive.taskhive_backend.security.TokenService;
+import com.taskhive.taskhive_backend.service.StoryService;
+import com.taskhive.taskhive_backend.service.TeamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@IntegrationTest
+class ConditionalGetTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private TokenService tokenService;
+    
+    @Autowired
+    private TeamRepository teamRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private StoryService storyService;
+    
+    @Autowired
+    private TeamService teamService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private TestData testData;
+    
+    private Company company;
+    private String token;
+    
+    @BeforeEach
+    void setUp() {
+        company = testData.company("ETG");
+        token = "Bearer " + tokenService.issue(testData.user(company));
+    }
+    
+    @Test
+    void matchingTagGets304WithoutBody() throws Exception {
+        testData.story(company, "First");
+        String url = "/api/stories?companyId=" + company.getId();
+        String etag = etag(url);
+        assertThat(etag).startsWith("W/\"stories-" + company.getId() + "-");
+        
+        mockMvc.perform(get(url).header("Authorization", token).header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag))
+            .andExpect(header().string("Cache-Control", "no-cache, private"))
+            .andExpect(content().string(""));
+        
+        // Paged mode shares the tag
+        mockMvc.perform(get(url + "&limit=10").header("Authorization", token).header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+    }
+    
+    @Test
+    void writesCreatesAndDeletesChangeTheStoriesTag() throws Exception {
+        Story story = testData.story(company, "Original title");
+        String url = "/api/stories?companyId=" + company.getId();
+        String initial = etag(url);
+        
+        story.setTitle("Edited title");
+        storyService.updateStory(company.getId(), story.getId(), story);
+        String afterUpdate = etag(url);
+        assertThat(afterUpdate).isNotEqualTo(initial);
+        
+        // A stale tag gets the full, current list
+        mockMvc.perform(get(url).header("Authorization", token).header("If-None-Match", initial))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", afterUpdate))
+            .andExpect(content().string(containsString("Edited title")));
+        
+        Story second = testData.story(company, "Second");
+        String afterCreate = etag(url);
+        assertThat(afterCreate).isNotIn(initial, afterUpdate);
+        
+        // Same row count as after the update, but a tag is never handed out twice
+        storyService.deleteStory(company.getId(), second.getId());
+        String afterDelete = etag(url);
+        assertThat(afterDelete).isNotIn(initial, afterUpdate, afterCreate);
+        
+        testData.story(company, "Third");
+        assertThat(etag(url)).isNotIn(initial, afterUpdate, afterCreate, afterDelete);
+    }
+    
+    @Test
+    void rolledBackWritesKeepTheTag() throws Exception {
+        Story story = testData.story(company, "Original title");
+        String url = "/api/stories?companyId=" + company.getId();
+        String initial = etag(url);
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            story.setTitle("Never committed");
+            storyService.updateStory(company.getId(), story.getId(), story);
+            status.setRollbackOnly();
+        });
+        
+        mockMvc.perform(get(url).header("Authorization", token).header("If-None-Match", initial))
+            .andExpect(status().isNotModified());
+    }
+    
+    @Test
+    void sprintTagsFollowStoryAndSprintWrites() throws Exception {
+        Sprint sprint = testData.sprint(company, "Etag sprint");
+        Story inSprint = testData.story(company, "In the sprint", sprint.getId());
+        Story outside = testData.story(company, "Backlog item");
+        String url = "/api/sprints/" + sprint.getId();
+        String initial = etag(url);
+        
+        mockMvc.perform(get(url).header("Authorization", token).header("If-None-Match", initial))
+            .andExpect(status().isNotModified());
+        
+        inSprint.setStatus("Completed");
+        storyService.updateStory(company.getId(), inSprint.getId(), inSprint);
+        String afterSprintStory = etag(url);
+        assertThat(afterSprintStory).isNotEqualTo(initial);
+        
+        // Versions are kept per company, so any story write is a new version of every sprint
+        outside.setStatus("In Progress");
+        storyService.updateStory(company.getId(), outside.getId(), outside);
+        String afterBacklogStory = etag(url);
+        assertThat(afterBacklogStory).isNotIn(initial, afterSprintStory);
+        
+        storyService.addStoryToSprint(company.getId(), outside.getId(), sprint.getId());
+        assertThat(etag(url)).isNotIn(initial, afterSprintStory, afterBacklogStory);
+        
+        String listUrl = "/api/sprints?companyId=" + company.getId();
+        String listTag = etag(listUrl);
+        testData.sprint(company, "Another sprint");
+        assertThat(etag(listUrl)).isNotEqualTo(listTag);
+    }
+    
+    @Test
+    void bulkMemberChangesChangeTheTeamsTag() throws Exception {
+        Team team = new Team();
+        team.setName("Etag team");
+        team.setCompany(company);
+        team = teamRepository.save(team);
+        String url = "/api/teams?companyId=" + company.getId();
+        String initial = etag(url);
+        
+        User member = userRepository.findByCompanyId(company.getId()).get(0);
+        teamService.updateMembers(team.getId(), List.of(member.getName()));
+        String afterAdd = etag(url);
+        assertThat(afterAdd).isNotEqualTo(initial);
+        
+        teamService.updateMembers(team.getId(), List.of());
+        assertThat(etag(url)).isNotIn(initial, afterAdd);
+        
+        String usersUrl = "/api/users?companyId=" + company.getId();
+        mockMvc.perform(get(usersUrl).header("Authorization", token).header("If-None-Match", etag(usersUrl)))
+            .andExpect(status().isNotModified());
+    }
+    
+    private String etag(String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url).header("Authorization", token))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache, private"))
+            .andReturn();
+        String etag = result.getResponse().getHeader("ETag");
+        assertThat(etag).as("ETag of " + url).isNotNull();
+        return etag;
+    }
+}
@@ -0,0 +1,119 @@
+package com.taskhive.taskhive_backend.controller;
+
+import com.taskhive.taskhive_backend.IntegrationTest;
+import com.taskhive.taskhive_backend.TestData;
+import com.taskhive.taskhive_backend.dto.TeamMemberName;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Team;
+import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.repository.TeamRepository;
+import com.taskhive.taskhive_backend.repository.UserRepository;
+import com.taskhive.taskhive_backend.security.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.taskhive.taskhive_backend.monitoring.QueryBudgetMatchers.withinQueryBudget;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Enough teams and members that a per-team or per-member query would blow the budget
+@IntegrationTest
+class TeamControllerQueryBudgetTest {
+    
+    private static final int TEAMS = 6;
+    private static final int MEMBERS_PER_TEAM = 5;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private TokenService tokenService;
+    
+    @Autowired
+    private TeamRepository teamRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private TestData testData;
+    
+    private Company company;
+    private List<Team> teams;
+    private String token;
+    
+    @BeforeEach
+    void setUp() {
+        company = testData.company("BGT");
+        
+        teams = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int t = 0; t < TEAMS; t++) {
+            Team team = new Team();
+            team.setName("Team " + t);
+            team.setCompany(company);
+            teams.add(teamRepository.save(team));
+            for (int m = 0; m < MEMBERS_PER_TEAM; m++) {
+                users.add(user("Member " + t + "-" + m, team.getId()));
+            }
+        }
+        users.add(user("Benched", null));
+        userRepository.saveAll(users);
+        token = "Bearer " + tokenService.issue(users.get(0));
+    }
+    
+    @Test
+    void getAllTeamsStaysWithinItsBudget() throws Exception {
+        mockMvc.perform(get("/api/teams").param("companyId", company.getId().toString())
+                .header("Authorization", token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(TEAMS)))
+            .andExpect(jsonPath("$[0].members", hasSize(MEMBERS_PER_TEAM)))
+            .andExpect(withinQueryBudget());
+        
+        mockMvc.perform(get("/api/teams").param("companyId", company.getId().toString())
+                .param("countOnly", "true")
+                .header("Authorization", token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].memberCount").value(MEMBERS_PER_TEAM))
+            .andExpect(withinQueryBudget());
+    }
+    
+    @Test
+    void updateTeamMembersStaysWithinItsBudget() throws Exception {
+        Team team = teams.get(0);
+        // Keeps two members, takes three from another team and one without a team
+        List<String> members = List.of("Member 0-0", "Member 0-1", "Member 1-0", "Member 1-1", "Member 1-2", "Benched");
+        
+        mockMvc.perform(put("/api/teams/{id}/members", team.getId())
+                .header("Authorization", token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"members\": [\"" + String.join("\", \"", members) + "\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.added").value(4))
+            .andExpect(jsonPath("$.removed").value(3))
+            .andExpect(withinQueryBudget());
+        
+        List<String> names = userRepository.findTeamMemberNames(company.getId()).stream()
+            .filter(row -> team.getId().equals(row.getTeamId()))
+            .map(TeamMemberName::getName)
+            .toList();
+        assertThat(names).containsExactlyInAnyOrderElementsOf(members);
+    }
+    
+    private User user(String name, Long teamId) {
+        User user = TestData.newUser(company, name);
+        user.setTeamId(teamId);
+        return user;
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskhive.taskhive_backend.monitoring;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MockMvc matchers on the X-Statement-Count header, which the test profile always sends.
+// The test profile also enforces budgets, so an overrun already fails the request; these
+// make the count itself part of the assertion.
+public final class QueryBudgetMatchers {
+    
+    private QueryBudgetMatchers() {
+    }
+    
+    // The handler issued no more statements than its own @QueryBudget allows
+    public static ResultMatcher withinQueryBudget() {
+        return result -> {
+            assertThat(result.getHandler()).isInstanceOf(HandlerMethod.class);
+            QueryBudget budget = ((HandlerMethod) result.getHandler()).getMethodAnnotation(QueryBudget.class);
+            assertThat(budget).as("handler declares a @QueryBudget").isNotNull();
+            statementCountAtMost(budget.value()).match(result);
+        };
+    }
+    
+    public static ResultMatcher statementCountAtMost(int limit) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryBudgetAdvice.STATEMENT_COUNT_HEADER);
+            assertThat(header).as(QueryBudgetAdvice.STATEMENT_COUNT_HEADER + " header").isNotNull();
+            assertThat(Integer.parseInt(header)).as("SQL statements issued").isLessThanOrEqualTo(limit);
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskhive.taskhive_backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskhive.taskhive_backend.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenServiceTest {
+    
+    @Test
+    void refusesToStartWithoutAKey() {
+        assertThatThrownBy(() -> tokenService(""))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("at least 32 bytes");
+    }
+    
+    @Test
+    void refusesKeysShorterThan32Bytes() {
+        assertThatThrownBy(() -> tokenService("0123456789abcdef0123456789abcde"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+    
+    @Test
+    void verifiesItsOwnTokensAndRejectsOtherKeys() {
+        TokenService tokenService = tokenService("first-key-0123456789abcdef0123456789");
+        String token = tokenService.issue(user());
+        
+        assertThat(tokenService.verify(token)).hasValueSatisfying(authenticated -> {
+            assertThat(authenticated.userId()).isEqualTo(7L);
+            assertThat(authenticated.role()).isEqualTo("admin");
+        });
+        assertThat(tokenService("other-key-0123456789abcdef0123456789").verify(token)).isEmpty();
+    }
+    
+    private static TokenService tokenService(String key) {
+        TokenProperties properties = new TokenProperties();
+        properties.setActiveKeyId("k1");
+        properties.setKeys(Map.of("k1", key));
+        return new TokenService(new ObjectMapper(), properties);
+    }
+    
+    private static User user() {
+        User user = new User();
+        user.setId(7L);
+        user.setName("Admin");
+        user.setEmail("admin@example.com");
+        user.setRole(User.Role.ADMIN);
+        return user;
+    }
+}
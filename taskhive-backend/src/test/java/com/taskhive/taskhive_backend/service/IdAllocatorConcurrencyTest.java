@@ -0,0 +1,108 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.IntegrationTest;
+import com.taskhive.taskhive_backend.TestData;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Story;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Fewer connections than threads: a create that held one connection while its id refill waited
+// for a second would run the pool dry and time out
+@IntegrationTest
+@TestPropertySource(properties = {
+    "spring.datasource.hikari.maximum-pool-size=4",
+    "spring.datasource.hikari.connection-timeout=2000"
+})
+class IdAllocatorConcurrencyTest {
+    
+    private static final int THREADS = 8;
+    private static final int STORIES_PER_THREAD = 60;
+    private static final List<String> TYPES = List.of("Bug", "User Story");
+    
+    @Autowired
+    private StoryService storyService;
+    
+    @Autowired
+    private TestData testData;
+    
+    @Autowired
+    private IdAllocator idAllocator;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void parallelCreateStoryHandsOutDistinctContiguousNumbers() throws Exception {
+        List<Company> companies = List.of(testData.company("IDA"), testData.company("IDB"));
+        ConcurrentLinkedQueue<String> storyIds = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                results.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int i = 0; i < STORIES_PER_THREAD; i++) {
+                        Company company = companies.get((thread + i) % companies.size());
+                        Story story = TestData.newStory(company, "Concurrent story " + thread + "-" + i);
+                        story.setType(TYPES.get(i % TYPES.size()));
+                        storyIds.add(storyService.createStory(story).getStoryId());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        assertThat(storyIds).hasSize(THREADS * STORIES_PER_THREAD).doesNotHaveDuplicates();
+        
+        // IDs look like IDA7-B0042: the prefix is company code and type letter, then the number
+        Map<String, List<String>> byPrefix = storyIds.stream()
+            .collect(Collectors.groupingBy(id -> id.substring(0, id.length() - 4)));
+        String a = companies.get(0).getCode();
+        String b = companies.get(1).getCode();
+        assertThat(byPrefix).containsOnlyKeys(a + "-B", a + "-U", b + "-B", b + "-U");
+        byPrefix.forEach((prefix, ids) -> {
+            TreeSet<Long> numbers = ids.stream()
+                .map(id -> Long.parseLong(id.substring(prefix.length())))
+                .collect(Collectors.toCollection(TreeSet::new));
+            assertThat(numbers.last() - numbers.first() + 1)
+                .as("numbers for %s are contiguous", prefix)
+                .isEqualTo(numbers.size());
+        });
+    }
+    
+    @Test
+    void reservingInsideATransactionIsRefused() {
+        Company company = testData.company("IDC");
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+            idAllocator.next(company.getId(), "SPRINT", () -> 1L)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
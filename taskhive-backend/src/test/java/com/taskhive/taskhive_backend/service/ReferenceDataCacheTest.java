@@ -0,0 +1,56 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.IntegrationTest;
+import com.taskhive.taskhive_backend.TestData;
+import com.taskhive.taskhive_backend.dto.SprintSummary;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Sprint;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class ReferenceDataCacheTest {
+    
+    @Autowired
+    private ReferenceDataService referenceDataService;
+    
+    @Autowired
+    private SprintService sprintService;
+    
+    @Autowired
+    private TestData testData;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void readBetweenEvictionAndCommitDoesNotKeepTheOldSprintCached() {
+        Company company = testData.company("CCH");
+        Long companyId = company.getId();
+        Sprint sprint = sprintService.createSprint(activeSprint(company, "Before"));
+        assertThat(referenceDataService.findActiveSprint(companyId).name()).isEqualTo("Before");
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            sprintService.updateSprint(sprint.getId(), activeSprint(null, "After"));
+            // Another request reads before the update commits and sees the committed row
+            SprintSummary concurrentRead = CompletableFuture
+                .supplyAsync(() -> referenceDataService.findActiveSprint(companyId))
+                .orTimeout(10, TimeUnit.SECONDS).join();
+            assertThat(concurrentRead.name()).isEqualTo("Before");
+        });
+        
+        assertThat(referenceDataService.findActiveSprint(companyId).name()).isEqualTo("After");
+    }
+    
+    private static Sprint activeSprint(Company company, String name) {
+        Sprint sprint = TestData.newSprint(company, name);
+        sprint.setStatus(Sprint.Status.ACTIVE);
+        return sprint;
+    }
+}
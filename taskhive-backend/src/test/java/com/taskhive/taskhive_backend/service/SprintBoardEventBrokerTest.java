@@ -0,0 +1,188 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.dto.SprintBoardEvent;
+import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.security.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Real sockets on a real server: a client that stops reading must not keep the single writer
+// thread, so a second, healthy subscriber still gets its events
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "taskhive.events.writer-threads=1",
+    "taskhive.events.subscriber-buffer=64",
+    "taskhive.events.write-timeout=1s",
+    "taskhive.events.write-check-interval=200ms"
+})
+@ActiveProfiles("test")
+class SprintBoardEventBrokerTest {
+    
+    private static final AtomicLong COMPANY_IDS = new AtomicLong(900_000);
+    // Large events fill the socket buffers after a few sends
+    private static final String LARGE_TITLE = "x".repeat(256 * 1024);
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private SprintBoardEventBroker broker;
+    
+    @Autowired
+    private TokenService tokenService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private final List<Socket> sockets = new ArrayList<>();
+    private String token;
+    
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setName("Board Watcher");
+        user.setEmail("watcher@example.com");
+        user.setRole(User.Role.USER);
+        token = tokenService.issue(user);
+    }
+    
+    @AfterEach
+    void closeSockets() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+    
+    @Test
+    void writeBlockedPastTheTimeoutDropsTheSubscriberAndFreesTheWriter() throws Exception {
+        long stalledCompany = COMPANY_IDS.incrementAndGet();
+        subscribe(stalledCompany, true);
+        double droppedBefore = dropped();
+        
+        // Fewer events than the buffer holds, so only the write timeout can drop this subscriber
+        for (int i = 0; i < 40; i++) {
+            broker.publish(event(stalledCompany, LARGE_TITLE));
+        }
+        awaitDropped(droppedBefore);
+        
+        assertWritersLeaveTheStalledSocket();
+        assertHealthySubscriberReceivesEvents();
+    }
+    
+    @Test
+    void subscriberDroppedForAFullBufferFreesItsBlockedWriter() throws Exception {
+        long stalledCompany = COMPANY_IDS.incrementAndGet();
+        subscribe(stalledCompany, true);
+        double droppedBefore = dropped();
+        
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        long slowestPublish = 0;
+        while (dropped() == droppedBefore && System.nanoTime() < deadline) {
+            long started = System.nanoTime();
+            broker.publish(event(stalledCompany, LARGE_TITLE));
+            slowestPublish = Math.max(slowestPublish, System.nanoTime() - started);
+        }
+        awaitDropped(droppedBefore);
+        // The publish that dropped the subscriber did not wait for its blocked writer
+        assertThat(Duration.ofNanos(slowestPublish)).isLessThan(Duration.ofMillis(500));
+        
+        assertWritersLeaveTheStalledSocket();
+        assertHealthySubscriberReceivesEvents();
+    }
+    
+    private void assertWritersLeaveTheStalledSocket() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (writerBlockedInSend() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(writerBlockedInSend()).as("an sse-writer thread is still inside send()").isFalse();
+    }
+    
+    // Only this context's broker: other cached test contexts run writers of their own
+    private boolean writerBlockedInSend() {
+        return broker.writerThreads().stream()
+            .anyMatch(thread -> Arrays.stream(thread.getStackTrace())
+                .anyMatch(frame -> frame.getClassName().endsWith("ResponseBodyEmitter")));
+    }
+    
+    private void assertHealthySubscriberReceivesEvents() throws Exception {
+        long company = COMPANY_IDS.incrementAndGet();
+        BufferedReader reader = subscribe(company, false);
+        broker.publish(event(company, "Healthy subscriber event"));
+        
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.contains("Healthy subscriber event")) {
+                return;
+            }
+        }
+        throw new AssertionError("Stream ended before the event arrived");
+    }
+    
+    // Opens the stream over a raw socket and waits for the response headers. A stalled client
+    // never reads past them and advertises a tiny receive window.
+    private BufferedReader subscribe(long companyId, boolean stalled) throws IOException {
+        Socket socket = new Socket();
+        sockets.add(socket);
+        if (stalled) {
+            socket.setReceiveBufferSize(4096);
+        }
+        socket.setSoTimeout(10_000);
+        socket.connect(new InetSocketAddress("localhost", port));
+        String request = "GET /api/sprints/events?companyId=" + companyId + " HTTP/1.1\r\n"
+            + "Host: localhost\r\n"
+            + "Accept: text/event-stream\r\n"
+            + "Authorization: Bearer " + token + "\r\n\r\n";
+        socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+        socket.getOutputStream().flush();
+        
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8), 1);
+        assertThat(reader.readLine()).isEqualTo("HTTP/1.1 200 ");
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            // Skip the remaining headers
+        }
+        return reader;
+    }
+    
+    private void awaitDropped(double droppedBefore) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (dropped() == droppedBefore && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(dropped()).as("stalled subscriber was dropped").isGreaterThan(droppedBefore);
+    }
+    
+    private double dropped() {
+        return meterRegistry.get("taskhive.events.dropped").counter().count();
+    }
+    
+    private static SprintBoardEvent event(long companyId, String title) {
+        SprintBoardEvent event = new SprintBoardEvent();
+        event.setType(SprintBoardEvent.STORY_UPDATED);
+        event.setCompanyId(companyId);
+        event.setSprintId(1L);
+        event.setTitle(title);
+        return event;
+    }
+}
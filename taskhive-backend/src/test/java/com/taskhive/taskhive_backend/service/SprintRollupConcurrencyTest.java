@@ -0,0 +1,108 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.IntegrationTest;
+import com.taskhive.taskhive_backend.TestData;
+import com.taskhive.taskhive_backend.dto.SprintStoryAggregate;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.SprintRollup;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.repository.StoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every thread edits the same two stories: moves between sprints, removals and status and
+// point changes race on one row. The incrementally maintained rollups must still equal a
+// recount of the stories.
+@IntegrationTest
+class SprintRollupConcurrencyTest {
+    
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 40;
+    private static final List<String> STATUSES = List.of(
+        SprintRollup.PENDING, SprintRollup.IN_PROGRESS, SprintRollup.COMPLETED, SprintRollup.OVERDUE);
+    
+    @Autowired
+    private StoryService storyService;
+    
+    @Autowired
+    private SprintRollupService sprintRollupService;
+    
+    @Autowired
+    private StoryRepository storyRepository;
+    
+    @Autowired
+    private TestData testData;
+    
+    @Test
+    void concurrentMovesAndStatusChangesKeepRollupsEqualToTheStories() throws Exception {
+        Company company = testData.company("RRC");
+        Long companyId = company.getId();
+        List<Long> sprintIds = List.of(testData.sprint(company, "Race A").getId(),
+            testData.sprint(company, "Race B").getId());
+        List<Long> storyIds = List.of(testData.story(company, "Contended one", sprintIds.get(0)).getId(),
+            testData.story(company, "Contended two", sprintIds.get(1)).getId());
+        // Uncontended neighbours, so a wrong delta cannot hide behind an empty sprint
+        testData.story(company, "Bystander A", sprintIds.get(0));
+        testData.story(company, "Bystander B", sprintIds.get(1));
+        
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Random random = new Random(t);
+                results.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        Long storyId = storyIds.get(random.nextInt(storyIds.size()));
+                        switch (random.nextInt(3)) {
+                            case 0 -> storyService.updateStory(companyId, storyId, edit(random));
+                            case 1 -> storyService.addStoryToSprint(companyId, storyId, sprintIds.get(random.nextInt(sprintIds.size())));
+                            default -> storyService.removeStoryFromSprint(companyId, storyId);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        for (Long sprintId : sprintIds) {
+            SprintRollup expected = new SprintRollup(sprintId, company.getId());
+            for (SprintStoryAggregate aggregate : storyRepository.aggregateForSprint(sprintId)) {
+                expected.add(aggregate.getStatus(), aggregate.getStoryCount(), aggregate.getStoryPoints());
+            }
+            SprintRollup actual = sprintRollupService.getRollup(sprintId);
+            assertThat(actual.sameCountsAs(expected))
+                .as("rollup of sprint %d: %s, stories say %s", sprintId, actual, expected)
+                .isTrue();
+        }
+    }
+    
+    private static Story edit(Random random) {
+        Story story = new Story();
+        story.setTitle("Contended story");
+        story.setPriority("High");
+        story.setStatus(STATUSES.get(random.nextInt(STATUSES.size())));
+        story.setStoryPoints(1 + random.nextInt(8));
+        story.setProgress(random.nextInt(101));
+        return story;
+    }
+}
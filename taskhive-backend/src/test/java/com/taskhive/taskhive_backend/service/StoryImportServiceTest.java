@@ -0,0 +1,94 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.IntegrationTest;
+import com.taskhive.taskhive_backend.TestData;
+import com.taskhive.taskhive_backend.dto.StoryImportError;
+import com.taskhive.taskhive_backend.dto.StoryImportResult;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.repository.StoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
+class StoryImportServiceTest {
+    
+    @Autowired
+    private StoryImportService storyImportService;
+    
+    @Autowired
+    private StoryRepository storyRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TestData testData;
+    
+    @Test
+    void rowsWithAnUnknownOrForeignAssigneeFailAloneAndTheRestImport() throws Exception {
+        Company company = testData.company("IMP");
+        Company otherCompany = testData.company("IMO");
+        User assignee = testData.user(company);
+        User outsider = testData.user(otherCompany);
+        
+        String csv = String.join("\n",
+            "title,type,assigneeId",
+            "First,Bug," + assignee.getId(),
+            "Unknown assignee,Bug,987654321",
+            "Other company's user,Task," + outsider.getId(),
+            "Unassigned,Task,",
+            "Last,User Story," + assignee.getId());
+        
+        StoryImportResult result = storyImportService.importCsv(company.getId(), assignee.getId(),
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(StoryImportError::getLine).containsExactly(3L, 4L);
+        assertThat(result.getErrors()).extracting(StoryImportError::getMessage).containsExactly(
+            "User not found with id: 987654321", "User not found with id: " + outsider.getId());
+        assertThat(storyRepository.findByCompanyId(company.getId())).extracting(Story::getTitle)
+            .containsExactlyInAnyOrder("First", "Unassigned", "Last");
+    }
+    
+    @Test
+    void rowsTheDatabaseRejectsAreReportedByLineAndTheRestOfTheirBatchImports() throws Exception {
+        Company company = testData.company("IMR");
+        User creator = testData.user(company);
+        StringBuilder csv = new StringBuilder("title,type");
+        for (int i = 1; i <= 10; i++) {
+            csv.append('\n').append(i == 2 || i == 7 ? "Rejected" : "Row " + i).append(",Task");
+        }
+        
+        // Passes the import's own checks; only the database refuses it
+        jdbcTemplate.execute("ALTER TABLE stories ADD CONSTRAINT stories_not_rejected CHECK (title <> 'Rejected')");
+        Object batchSize = ReflectionTestUtils.getField(storyImportService, "batchSize");
+        ReflectionTestUtils.setField(storyImportService, "batchSize", 4);
+        StoryImportResult result;
+        try {
+            result = storyImportService.importCsv(company.getId(), creator.getId(),
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            ReflectionTestUtils.setField(storyImportService, "batchSize", batchSize);
+            jdbcTemplate.execute("ALTER TABLE stories DROP CONSTRAINT stories_not_rejected");
+        }
+        
+        assertThat(result.getImported()).isEqualTo(8);
+        assertThat(result.getFailed()).isEqualTo(2);
+        // Data rows start on line 2, after the header
+        assertThat(result.getErrors()).extracting(StoryImportError::getLine).containsExactly(3L, 8L);
+        assertThat(result.getErrors()).extracting(StoryImportError::getMessage)
+            .allSatisfy(message -> assertThat(message).startsWith("Rejected by the database:"));
+        assertThat(storyRepository.findByCompanyId(company.getId())).extracting(Story::getTitle)
+            .containsExactlyInAnyOrder("Row 1", "Row 3", "Row 4", "Row 5", "Row 6", "Row 8", "Row 9", "Row 10");
+    }
+}
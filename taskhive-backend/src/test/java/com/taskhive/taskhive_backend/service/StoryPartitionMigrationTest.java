@@ -0,0 +1,206 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.TestPostgres;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The V13 online migration on PostgreSQL: a table too large to move within the migration is
+// backfilled in chunks and swapped while writers keep inserting, updating and deleting stories
+class StoryPartitionMigrationTest {
+    
+    private static final int COMPANIES = 20;
+    private static final int SEEDED_STORIES = 12_000;
+    private static final int WRITERS = 4;
+    // Writers own the seeded rows up to this id (by id % WRITERS); the rest stay untouched
+    private static final int WRITTEN_RANGE = 4_000;
+    private static final String COLUMNS = "id, company_id, story_id, title, description, type, priority, status, " +
+        "assignee_id, assignee_name, story_points, progress, deadline, acceptance_criteria, sprint_id, " +
+        "created_at, updated_at, search_vector, created_by";
+    
+    @Test
+    void backfillAndSwapKeepEveryConcurrentWrite() throws Exception {
+        try (TestPostgres.Database database = TestPostgres.createDatabase()) {
+            JdbcTemplate jdbc = database.jdbc();
+            migrate(database, "12");
+            jdbc.update("INSERT INTO companies (name, code) SELECT 'Tenant ' || i, 'T' || i FROM generate_series(1, ?) i", COMPANIES);
+            jdbc.update("INSERT INTO stories (company_id, story_id, title, description, type, priority, status, story_points) " +
+                "SELECT c.id, 'SEED-' || i, 'Seeded story ' || i, 'Description of story ' || i, " +
+                "CASE WHEN i % 3 = 0 THEN 'Bug' ELSE 'User Story' END, 'Medium', 'Pending', i % 8 " +
+                "FROM generate_series(1, ?) i JOIN companies c ON c.code = 'T' || (i % ? + 1)", SEEDED_STORIES, COMPANIES);
+            migrate(database, null);
+            
+            // Too large to move within the migration: only the mirrored copy exists so far
+            assertThat(isPartitioned(jdbc)).isFalse();
+            assertThat(jdbc.queryForObject("SELECT copy_until FROM stories_partition_progress", Long.class))
+                .isEqualTo((long) SEEDED_STORIES);
+            long seededMaxId = jdbc.queryForObject("SELECT MAX(id) FROM stories", Long.class);
+            List<Long> companyIds = jdbc.queryForList("SELECT id FROM companies", Long.class);
+            
+            StoryPartitionMigration migration = new StoryPartitionMigration(jdbc, new SimpleMeterRegistry());
+            ReflectionTestUtils.setField(migration, "enabled", true);
+            ReflectionTestUtils.setField(migration, "chunkSize", 500);
+            
+            AtomicBoolean swapped = new AtomicBoolean();
+            AtomicBoolean stop = new AtomicBoolean();
+            AtomicInteger writesBeforeSwap = new AtomicInteger();
+            AtomicInteger writesAfterSwap = new AtomicInteger();
+            List<Writer> writers = new ArrayList<>();
+            ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+            try {
+                List<Future<Void>> results = new ArrayList<>();
+                for (int w = 0; w < WRITERS; w++) {
+                    Writer writer = new Writer(w, database, companyIds);
+                    writers.add(writer);
+                    results.add(executor.submit((Callable<Void>) () -> {
+                        try (SingleConnectionDataSource connection = writer.connect()) {
+                            JdbcTemplate writerJdbc = new JdbcTemplate(connection);
+                            writer.load(writerJdbc);
+                            while (!stop.get()) {
+                                boolean after = swapped.get();
+                                writer.writeOnce(writerJdbc);
+                                (after ? writesAfterSwap : writesBeforeSwap).incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                
+                long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(3);
+                while (!(boolean) ReflectionTestUtils.getField(migration, "finished")) {
+                    assertThat(System.nanoTime()).as("backfill and swap finish").isLessThan(deadline);
+                    migration.run();
+                    Thread.sleep(20);
+                }
+                swapped.set(true);
+                Thread.sleep(1_000);
+                stop.set(true);
+                for (Future<Void> result : results) {
+                    result.get(1, TimeUnit.MINUTES);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(writesBeforeSwap.get()).as("writes during the backfill").isPositive();
+            assertThat(writesAfterSwap.get()).as("writes after the swap").isPositive();
+            
+            assertThat(isPartitioned(jdbc)).isTrue();
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM pg_inherits WHERE inhparent = 'stories'::regclass", Integer.class))
+                .isEqualTo(16);
+            assertThat(jdbc.queryForObject("SELECT to_regclass('stories_partition_progress') IS NULL", Boolean.class)).isTrue();
+            
+            // Every writer's rows, and nothing else, in the written ranges
+            Map<Long, String> expected = new HashMap<>();
+            writers.forEach(writer -> expected.putAll(writer.titles));
+            Map<Long, String> actual = new HashMap<>();
+            jdbc.query("SELECT id, title FROM stories WHERE id <= ? OR id > ?",
+                row -> { actual.put(row.getLong("id"), row.getString("title")); }, WRITTEN_RANGE, seededMaxId);
+            Set<Long> wrong = new TreeSet<>(expected.keySet());
+            wrong.addAll(actual.keySet());
+            wrong.removeIf(id -> Objects.equals(expected.get(id), actual.get(id)));
+            assertThat(wrong).as("stories missing, left over or with a lost update").isEmpty();
+            
+            // The untouched rows were copied column for column
+            String untouched = " WHERE id > " + WRITTEN_RANGE + " AND id <= " + seededMaxId;
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM stories" + untouched, Long.class))
+                .isEqualTo(seededMaxId - WRITTEN_RANGE);
+            assertThat(jdbc.queryForList("(SELECT " + COLUMNS + " FROM stories_unpartitioned" + untouched + ") " +
+                "EXCEPT (SELECT " + COLUMNS + " FROM stories" + untouched + ")")).isEmpty();
+            
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM stories " +
+                "WHERE NOT search_vector @@ plainto_tsquery('english', title)", Long.class)).isZero();
+            assertThat(jdbc.queryForObject("SELECT COUNT(DISTINCT id) = COUNT(*) FROM stories", Boolean.class)).isTrue();
+            Long nextId = jdbc.queryForObject("INSERT INTO stories (company_id, story_id, title, type) " +
+                "VALUES (?, 'AFTER-1', 'After the swap', 'Bug') RETURNING id", Long.class, companyIds.get(0));
+            assertThat(nextId).isGreaterThan(jdbc.queryForObject(
+                "SELECT MAX(id) FROM (SELECT id FROM stories WHERE story_id <> 'AFTER-1' " +
+                "UNION ALL SELECT id FROM stories_unpartitioned) ids", Long.class));
+        }
+    }
+    
+    private static void migrate(TestPostgres.Database database, String target) {
+        var configuration = Flyway.configure().dataSource(database.dataSource()).locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        configuration.load().migrate();
+    }
+    
+    private static boolean isPartitioned(JdbcTemplate jdbc) {
+        return Boolean.TRUE.equals(jdbc.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'stories'::regclass)", Boolean.class));
+    }
+    
+    // Inserts, updates and deletes its own stories over one autocommit connection, and keeps
+    // the title every one of them should end up with
+    private static final class Writer {
+        
+        private final int number;
+        private final TestPostgres.Database database;
+        private final List<Long> companyIds;
+        private final Map<Long, String> titles = new HashMap<>();
+        private final List<Long> live = new ArrayList<>();
+        private int writes;
+        
+        private Writer(int number, TestPostgres.Database database, List<Long> companyIds) {
+            this.number = number;
+            this.database = database;
+            this.companyIds = companyIds;
+        }
+        
+        private SingleConnectionDataSource connect() throws Exception {
+            return new SingleConnectionDataSource(database.dataSource().getConnection(), true);
+        }
+        
+        private void load(JdbcTemplate jdbc) {
+            jdbc.query("SELECT id, title FROM stories WHERE id <= ? AND id % ? = ?", row -> {
+                titles.put(row.getLong("id"), row.getString("title"));
+                live.add(row.getLong("id"));
+            }, WRITTEN_RANGE, WRITERS, number);
+        }
+        
+        private void writeOnce(JdbcTemplate jdbc) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String tag = number + "-" + ++writes;
+            int choice = random.nextInt(100);
+            if (choice < 45 || live.isEmpty()) {
+                Long companyId = companyIds.get(random.nextInt(companyIds.size()));
+                String title = "Written story " + tag;
+                Long id = jdbc.queryForObject("INSERT INTO stories (company_id, story_id, title, type, priority, status) " +
+                    "VALUES (?, ?, ?, 'User Story', 'Medium', 'Pending') RETURNING id", Long.class, companyId, "W" + tag, title);
+                titles.put(id, title);
+                live.add(id);
+            } else if (choice < 85) {
+                Long id = live.get(random.nextInt(live.size()));
+                String title = "Edited story " + tag;
+                jdbc.update("UPDATE stories SET title = ?, status = 'In Progress', progress = progress + 1 WHERE id = ?", title, id);
+                titles.put(id, title);
+            } else {
+                Long id = live.remove(random.nextInt(live.size()));
+                jdbc.update("DELETE FROM stories WHERE id = ?", id);
+                titles.remove(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskhive.taskhive_backend.service;
+
+import com.taskhive.taskhive_backend.IntegrationTest;
+import com.taskhive.taskhive_backend.TestData;
+import com.taskhive.taskhive_backend.dto.StoryPage;
+import com.taskhive.taskhive_backend.dto.StorySummary;
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Story;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// H2 has no search_vector column, so these run against the InMemoryStoryIndex fallback
+@IntegrationTest
+class StorySearchServiceTest {
+    
+    @Autowired
+    private StorySearchService storySearchService;
+    
+    @Autowired
+    private StoryService storyService;
+    
+    @Autowired
+    private TestData testData;
+    
+    private Company company;
+    
+    @BeforeEach
+    void setUp() {
+        company = testData.company("SRC");
+    }
+    
+    @Test
+    void titleMatchesRankAboveDescriptionAndCriteriaMatches() {
+        Story inCriteria = story("Checkout tweaks", null, "Invoice totals are rounded");
+        Story inDescription = story("Billing cleanup", "Invoice emails go out twice", null);
+        Story inTitle = story("Invoice export to PDF", null, null);
+        story("Unrelated story", "Nothing to see", null);
+        
+        assertThat(titles(search("invoice", null, null)))
+            .containsExactly(inTitle.getTitle(), inDescription.getTitle(), inCriteria.getTitle());
+    }
+    
+    @Test
+    void everyWordMustMatchAndCaseAndPunctuationAreIgnored() {
+        story("Login page times out", "Session expires on the login form", null);
+        story("Login button colour", null, null);
+        
+        assertThat(titles(search("LOGIN, session!", null, null))).containsExactly("Login page times out");
+        assertThat(search("login nonexistentword", null, null).getItems()).isEmpty();
+        // Only stop words leaves nothing to match
+        assertThat(search("the and of", null, null).getItems()).isEmpty();
+    }
+    
+    @Test
+    void resultsAreScopedToTheCompany() {
+        story("Payroll report", null, null);
+        Company mine = company;
+        setUp();
+        story("Payroll export", null, null);
+        
+        assertThat(titles(storySearchService.search(mine.getId(), "payroll", null, null))).containsExactly("Payroll report");
+        assertThat(titles(search("payroll", null, null))).containsExactly("Payroll export");
+    }
+    
+    @Test
+    void cursorPagesThroughAllMatchesOnce() {
+        for (int i = 0; i < 7; i++) {
+            story("Release note " + i, null, null);
+        }
+        
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            StoryPage page = search("release", cursor, 3);
+            seen.addAll(titles(page));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(7).doesNotHaveDuplicates();
+    }
+    
+    @Test
+    void indexPicksUpEditsAndNewStories() {
+        Story story = story("Dark mode", null, null);
+        assertThat(search("theme", null, null).getItems()).isEmpty();
+        
+        story.setDescription("Follow the system theme");
+        storyService.updateStory(company.getId(), story.getId(), story);
+        story("Theme picker", null, null);
+        
+        assertThat(titles(search("theme", null, null))).containsExactly("Theme picker", "Dark mode");
+    }
+    
+    @Test
+    void rejectsBlankQueriesAndForeignCursors() {
+        assertThatThrownBy(() -> search("  ", null, null)).hasMessage("Search query must not be empty");
+        assertThatThrownBy(() -> search("x", "bm90LWEtY3Vyc29y", null)).hasMessageStartingWith("Invalid cursor");
+    }
+    
+    private StoryPage search(String query, String cursor, Integer limit) {
+        return storySearchService.search(company.getId(), query, cursor, limit);
+    }
+    
+    private static List<String> titles(StoryPage page) {
+        return page.getItems().stream().map(StorySummary::title).toList();
+    }
+    
+    private Story story(String title, String description, String acceptanceCriteria) {
+        Story story = TestData.newStory(company, title);
+        story.setDescription(description);
+        story.setAcceptanceCriteria(acceptanceCriteria);
+        return storyService.createStory(story);
+    }
+}
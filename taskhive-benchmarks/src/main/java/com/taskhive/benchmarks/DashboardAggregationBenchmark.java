@@ -0,0 +1,83 @@
+package com.taskhive.benchmarks;
+
+import com.taskhive.taskhive_backend.dto.DashboardStats;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.repository.SprintRepository;
+import com.taskhive.taskhive_backend.repository.StoryRepository;
+import com.taskhive.taskhive_backend.service.AnalyticsService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// SQL GROUP BY aggregation (current) against loading every entity and counting in Java
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardAggregationBenchmark {
+    
+    @Param({"1000", "10000"})
+    public int storyCount;
+    
+    private ConfigurableApplicationContext context;
+    private AnalyticsService analyticsService;
+    private StoryRepository storyRepository;
+    private SprintRepository sprintRepository;
+    private List<Story> inMemoryStories;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        SyntheticData.insertStories(jdbc, storyCount);
+        SyntheticData.insertSprints(jdbc, 20);
+        analyticsService = context.getBean(AnalyticsService.class);
+        storyRepository = context.getBean(StoryRepository.class);
+        sprintRepository = context.getBean(SprintRepository.class);
+        inMemoryStories = SyntheticData.stories(storyCount);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public DashboardStats sqlAggregation() {
+        return analyticsService.getDashboardStats(SyntheticData.COMPANY_ID, false);
+    }
+    
+    @Benchmark
+    public DashboardStats sqlAggregationWithBreakdown() {
+        return analyticsService.getDashboardStats(SyntheticData.COMPANY_ID, true);
+    }
+    
+    @Benchmark
+    public void legacyLoadAndFilter(Blackhole blackhole) {
+        List<Story> stories = storyRepository.findByCompanyId(SyntheticData.COMPANY_ID);
+        List<Sprint> sprints = sprintRepository.findByCompanyId(SyntheticData.COMPANY_ID);
+        countInJava(stories, sprints, blackhole);
+    }
+    
+    // Java-side counting alone, isolating it from the cost of loading the entities
+    @Benchmark
+    public void legacyFilterOnly(Blackhole blackhole) {
+        countInJava(inMemoryStories, List.of(), blackhole);
+    }
+    
+    private static void countInJava(List<Story> stories, List<Sprint> sprints, Blackhole blackhole) {
+        blackhole.consume(stories.size());
+        blackhole.consume(stories.stream().filter(s -> "Completed".equals(s.getStatus())).count());
+        blackhole.consume(stories.stream().filter(s -> "In Progress".equals(s.getStatus())).count());
+        blackhole.consume(stories.stream().filter(s -> "Pending".equals(s.getStatus())).count());
+        blackhole.consume(sprints.size());
+        blackhole.consume(sprints.stream().filter(s -> "ACTIVE".equals(s.getStatus().name())).count());
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskhive.benchmarks;
+
+import com.taskhive.taskhive_backend.repository.SprintRepository;
+import com.taskhive.taskhive_backend.repository.StoryRepository;
+import com.taskhive.taskhive_backend.service.IdAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+// Block allocation (current) against the COUNT(*)+1 scheme it replaced
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationBenchmark {
+    
+    @Param({"10000"})
+    public int existingStories;
+    
+    private ConfigurableApplicationContext context;
+    private IdAllocator idAllocator;
+    private StoryRepository storyRepository;
+    private SprintRepository sprintRepository;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        SyntheticData.insertStories(context.getBean(JdbcTemplate.class), existingStories);
+        idAllocator = context.getBean(IdAllocator.class);
+        storyRepository = context.getBean(StoryRepository.class);
+        sprintRepository = context.getBean(SprintRepository.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public long allocateStoryNumber() {
+        return idAllocator.next(SyntheticData.COMPANY_ID, "STORY-S", () -> storyRepository.findMaxId() + 1);
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public long allocateSprintNumber() {
+        return idAllocator.next(SyntheticData.COMPANY_ID, "SPRINT", () -> 1L);
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public String legacyStoryCountPlusOne() {
+        return "EMP-S" + String.format("%04d", storyRepository.count() + 1);
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public String legacySprintCountPlusOne() {
+        return "SPR-" + String.format("%03d", sprintRepository.count() + 1);
+    }
+}
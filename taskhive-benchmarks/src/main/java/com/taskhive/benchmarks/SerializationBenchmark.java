@@ -0,0 +1,87 @@
+package com.taskhive.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of the payloads the list endpoints return, using the application's ObjectMapper
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    
+    @Param({"1000"})
+    public int size;
+    
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private TransactionTemplate transactionTemplate;
+    private UserRepository userRepository;
+    private EntityManager entityManager;
+    private List<Story> stories;
+    private List<Sprint> sprints;
+    private List<User> users;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        SyntheticData.insertTeamsWithMembers(context.getBean(JdbcTemplate.class), size / 10, 10);
+        objectMapper = context.getBean(ObjectMapper.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        userRepository = context.getBean(UserRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        stories = SyntheticData.stories(size);
+        sprints = SyntheticData.sprints(size);
+        users = SyntheticData.users(size);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public byte[] serializeStories() throws Exception {
+        return objectMapper.writeValueAsBytes(stories);
+    }
+    
+    @Benchmark
+    public byte[] serializeSprints() throws Exception {
+        return objectMapper.writeValueAsBytes(sprints);
+    }
+    
+    @Benchmark
+    public byte[] serializeUsers() throws Exception {
+        return objectMapper.writeValueAsBytes(users);
+    }
+    
+    // Users as GET /api/users returns them: loaded entities whose Company is an uninitialized
+    // Hibernate proxy until Jackson touches it
+    @Benchmark
+    public byte[] loadAndSerializeUsersWithLazyCompany() {
+        return transactionTemplate.execute(status -> {
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(userRepository.findByCompanyId(SyntheticData.COMPANY_ID));
+                entityManager.clear();
+                return json;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
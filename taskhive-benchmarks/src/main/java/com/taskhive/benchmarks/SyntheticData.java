@@ -0,0 +1,152 @@
+package com.taskhive.benchmarks;
+
+import com.taskhive.taskhive_backend.model.Company;
+import com.taskhive.taskhive_backend.model.Sprint;
+import com.taskhive.taskhive_backend.model.Story;
+import com.taskhive.taskhive_backend.model.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic synthetic rows, either inserted with JDBC batches or built as detached objects
+public final class SyntheticData {
+    
+    public static final long COMPANY_ID = 1L;
+    
+    static final String[] STATUSES = {"Pending", "In Progress", "Completed", "Overdue"};
+    static final String[] TYPES = {"Story", "Task", "Bug", "Epic"};
+    static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    
+    private SyntheticData() {
+    }
+    
+    public static void insertStories(JdbcTemplate jdbc, int count) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {
+                COMPANY_ID, "BEN-" + i, "Synthetic story " + i,
+                "Description for synthetic story " + i + " with some representative length of text.",
+                TYPES[random.nextInt(TYPES.length)], PRIORITIES[random.nextInt(PRIORITIES.length)],
+                STATUSES[random.nextInt(STATUSES.length)], 1 + random.nextInt(13),
+                random.nextInt(101), Date.valueOf(LocalDate.now().plusDays(random.nextInt(60) - 30)),
+                1L, now, now
+            });
+        }
+        jdbc.batchUpdate("INSERT INTO stories (company_id, story_id, title, description, type, priority, status, " +
+                         "story_points, progress, deadline, created_by, created_at, updated_at) " +
+                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+    
+    public static void insertSprints(JdbcTemplate jdbc, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {
+                COMPANY_ID, "BEN-SPR-" + i, "Sprint " + i,
+                Date.valueOf(LocalDate.now().minusDays(14L * (count - i))),
+                Date.valueOf(LocalDate.now().minusDays(14L * (count - i) - 13)),
+                i == count - 1 ? "ACTIVE" : "COMPLETED", now, now
+            });
+        }
+        jdbc.batchUpdate("INSERT INTO sprints (company_id, sprint_id, name, start_date, end_date, status, " +
+                         "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+    
+    public static void insertTeamsWithMembers(JdbcTemplate jdbc, int teams, int membersPerTeam) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> teamRows = new ArrayList<>(teams);
+        for (int t = 0; t < teams; t++) {
+            teamRows.add(new Object[] {COMPANY_ID, "Team " + t, "Synthetic team " + t, now, now});
+        }
+        jdbc.batchUpdate("INSERT INTO teams (company_id, name, description, created_at, updated_at) " +
+                         "VALUES (?, ?, ?, ?, ?)", teamRows);
+        
+        List<Long> teamIds = jdbc.queryForList("SELECT id FROM teams WHERE company_id = ? ORDER BY id",
+            Long.class, COMPANY_ID);
+        List<Object[]> userRows = new ArrayList<>(teams * membersPerTeam);
+        for (Long teamId : teamIds) {
+            for (int m = 0; m < membersPerTeam; m++) {
+                String key = teamId + "-" + m;
+                userRows.add(new Object[] {
+                    COMPANY_ID, "BEN" + key, "Member " + key, "member" + key + "@bench.local",
+                    "Engineer", "BE", teamId, "USER", "ACTIVE", now, now
+                });
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO users (company_id, employee_id, name, email, designation, job_role, " +
+                         "team_id, role, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                         userRows);
+    }
+    
+    public static List<Story> stories(int count) {
+        Random random = new Random(42);
+        List<Story> stories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Story story = new Story();
+            story.setId((long) i + 1);
+            story.setStoryId("BEN-S" + i);
+            story.setTitle("Synthetic story " + i);
+            story.setDescription("Description for synthetic story " + i + " with some representative length of text.");
+            story.setType(TYPES[random.nextInt(TYPES.length)]);
+            story.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            story.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            story.setStoryPoints(1 + random.nextInt(13));
+            story.setProgress(random.nextInt(101));
+            story.setDeadline(LocalDate.now().plusDays(random.nextInt(60) - 30));
+            story.setCreatedBy(1L);
+            story.setCreatedAt(LocalDateTime.now());
+            story.setUpdatedAt(LocalDateTime.now());
+            stories.add(story);
+        }
+        return stories;
+    }
+    
+    public static List<Sprint> sprints(int count) {
+        List<Sprint> sprints = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Sprint sprint = new Sprint();
+            sprint.setId((long) i + 1);
+            sprint.setSprintId("BEN-SPR-" + i);
+            sprint.setName("Sprint " + i);
+            sprint.setStartDate(LocalDate.now().minusDays(14));
+            sprint.setEndDate(LocalDate.now());
+            sprint.setStatus(i == count - 1 ? Sprint.Status.ACTIVE : Sprint.Status.COMPLETED);
+            sprint.setCreatedAt(LocalDateTime.now());
+            sprint.setUpdatedAt(LocalDateTime.now());
+            sprints.add(sprint);
+        }
+        return sprints;
+    }
+    
+    public static List<User> users(int count) {
+        Company company = new Company();
+        company.setId(COMPANY_ID);
+        company.setName("Bench Co");
+        company.setCode("BEN");
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId((long) i + 1);
+            user.setCompany(company);
+            user.setEmployeeId("BEN" + i);
+            user.setName("Member " + i);
+            user.setEmail("member" + i + "@bench.local");
+            user.setDesignation("Engineer");
+            user.setJobRole(User.JobRole.BE);
+            user.setRole(User.Role.USER);
+            user.setStatus(User.Status.ACTIVE);
+            user.setCreatedAt(LocalDateTime.now());
+            user.setUpdatedAt(LocalDateTime.now());
+            users.add(user);
+        }
+        return users;
+    }
+}
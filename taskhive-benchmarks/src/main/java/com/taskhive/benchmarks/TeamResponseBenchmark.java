@@ -0,0 +1,90 @@
+package com.taskhive.benchmarks;
+
+import com.taskhive.taskhive_backend.controller.TeamController;
+import com.taskhive.taskhive_backend.dto.TeamResponse;
+import com.taskhive.taskhive_backend.model.Team;
+import com.taskhive.taskhive_backend.model.User;
+import com.taskhive.taskhive_backend.repository.TeamRepository;
+import com.taskhive.taskhive_backend.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/teams assembly: batched projection (current) against one member query per team,
+// plus the 304 answer to a client whose copy is current
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamResponseBenchmark {
+    
+    @Param({"20", "200"})
+    public int teams;
+    
+    @Param({"10"})
+    public int membersPerTeam;
+    
+    private ConfigurableApplicationContext context;
+    private TeamController teamController;
+    private TeamRepository teamRepository;
+    private UserRepository userRepository;
+    private String etag;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        SyntheticData.insertTeamsWithMembers(context.getBean(JdbcTemplate.class), teams, membersPerTeam);
+        teamController = context.getBean(TeamController.class);
+        teamRepository = context.getBean(TeamRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        etag = teamController.getAllTeams(SyntheticData.COMPANY_ID, false, request(null)).getHeaders().getETag();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public ResponseEntity<?> batchedProjection() {
+        return teamController.getAllTeams(SyntheticData.COMPANY_ID, false, request(null));
+    }
+    
+    @Benchmark
+    public ResponseEntity<?> memberCountOnly() {
+        return teamController.getAllTeams(SyntheticData.COMPANY_ID, true, request(null));
+    }
+    
+    @Benchmark
+    public ResponseEntity<?> notModified() {
+        return teamController.getAllTeams(SyntheticData.COMPANY_ID, false, request(etag));
+    }
+    
+    @Benchmark
+    public List<TeamResponse> legacyQueryPerTeam() {
+        List<Team> teamList = teamRepository.findByCompanyId(SyntheticData.COMPANY_ID);
+        return teamList.stream().map(team -> {
+            List<String> memberNames = userRepository.findByTeamId(team.getId())
+                .stream().map(User::getName).toList();
+            return new TeamResponse(team.getId(), team.getName(), team.getDescription(),
+                memberNames, team.getCreatedAt());
+        }).toList();
+    }
+    
+    // A new request per call: checkNotModified records its outcome on the request
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/teams");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request);
+    }
+}
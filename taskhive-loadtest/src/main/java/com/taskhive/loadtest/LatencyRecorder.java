@@ -0,0 +1,74 @@
+package com.taskhive.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-operation latency histograms plus error/rejection counters. Recording is lock-free;
+// reset() drops everything gathered so far (used at the end of warmup).
+public class LatencyRecorder {
+    
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+    
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private volatile long startNanos = System.nanoTime();
+    
+    public void record(String operation, long latencyNanos, int status) {
+        Stats s = stats.computeIfAbsent(operation, key -> new Stats());
+        s.recorder.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+        if (status == 503) {
+            s.rejected.increment();
+        } else if (status < 200 || status >= 300) {
+            s.errors.increment();
+        }
+    }
+    
+    public void reset() {
+        stats.values().forEach(s -> {
+            s.recorder.reset();
+            s.errors.reset();
+            s.rejected.reset();
+        });
+        startNanos = System.nanoTime();
+    }
+    
+    public Map<String, Summary> summarize() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        stats.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> {
+                Histogram histogram = entry.getValue().recorder.getIntervalHistogram();
+                summaries.put(entry.getKey(), new Summary(
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    entry.getValue().errors.sum(),
+                    entry.getValue().rejected.sum(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())
+                ));
+            });
+        return summaries;
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+    
+    private static final class Stats {
+        final Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+    }
+    
+    public record Summary(long requests, double throughput, long errors, long rejected,
+                          double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+}
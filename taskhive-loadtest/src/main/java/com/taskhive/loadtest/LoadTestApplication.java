@@ -0,0 +1,189 @@
+package com.taskhive.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskhive.taskhive_backend.TaskhiveBackendApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Boots the backend on a random port, seeds synthetic tenants, replays the configured API mix
+// over HTTP and reports throughput and p50/p99/p99.9 latency per operation.
+public final class LoadTestApplication {
+    
+    private LoadTestApplication() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        String database = resolveDatabase(config);
+        
+        try (ConfigurableApplicationContext context = start(config, database)) {
+            Environment environment = context.getEnvironment();
+            String baseUrl = "http://localhost:" + environment.getProperty("local.server.port");
+            
+            System.out.printf("Seeding %d companies x %d stories on %s...%n",
+                config.companies, config.storiesPerCompany, database);
+            List<SyntheticDataGenerator.Tenant> tenants = new SyntheticDataGenerator(
+                context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class), config).generate();
+            
+            LatencyRecorder recorder = new LatencyRecorder();
+            Workload workload = new Workload(baseUrl, config.mix, recorder);
+            run(config, tenants, workload, recorder);
+            
+            Map<String, LatencyRecorder.Summary> results = recorder.summarize();
+            printReport(results);
+            writeReport(config, database, environment, results);
+        }
+        System.exit(0);
+    }
+    
+    private static void run(LoadTestConfig config, List<SyntheticDataGenerator.Tenant> tenants,
+                            Workload workload, LatencyRecorder recorder) throws Exception {
+        // Tokens are fetched up front, one at a time, so the hashing executor never rejects them
+        Map<String, String> tokens = new HashMap<>();
+        List<Runnable> workers = new ArrayList<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int i = 0; i < config.concurrency; i++) {
+            SyntheticDataGenerator.Tenant tenant = tenants.get(i % tenants.size());
+            String email = tenant.emails().get((i / tenants.size()) % tenant.emails().size());
+            String token = tokens.computeIfAbsent(email, key -> login(workload, key));
+            workers.add(() -> {
+                while (running.get()) {
+                    workload.execute(workload.nextOperation(), tenant, email, token);
+                }
+            });
+        }
+        // Login burst: extra workers doing nothing but logins while the mix runs, to see
+        // whether bcrypt saturation leaks into the latency of the other endpoints
+        for (int i = 0; i < config.loginBurstThreads; i++) {
+            SyntheticDataGenerator.Tenant tenant = tenants.get(i % tenants.size());
+            String email = tenant.emails().get(0);
+            workers.add(() -> {
+                while (running.get()) {
+                    workload.execute(Operation.LOGIN, tenant, email, null);
+                }
+            });
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+        workers.forEach(executor::execute);
+        System.out.printf("Running %d workers (+%d login burst): warmup %ds, measure %ds%n",
+            config.concurrency, config.loginBurstThreads, config.warmup.toSeconds(), config.duration.toSeconds());
+        Thread.sleep(config.warmup.toMillis());
+        recorder.reset();
+        Thread.sleep(config.duration.toMillis());
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+    
+    private static String login(Workload workload, String email) {
+        try {
+            return workload.token(email);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not obtain a token for " + email, e);
+        }
+    }
+    
+    private static String resolveDatabase(LoadTestConfig config) {
+        if (!"auto".equals(config.database)) {
+            return config.database;
+        }
+        DriverManager.setLoginTimeout(2);
+        try (Connection ignored = DriverManager.getConnection(config.postgresUrl, config.postgresUser, config.postgresPassword)) {
+            return "postgres";
+        } catch (SQLException e) {
+            return "h2";
+        }
+    }
+    
+    private static ConfigurableApplicationContext start(LoadTestConfig config, String database) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        if ("postgres".equals(database)) {
+            properties.put("spring.datasource.url", config.postgresUrl);
+            properties.put("spring.datasource.username", config.postgresUser);
+            properties.put("spring.datasource.password", config.postgresPassword);
+        } else {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:load-" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+            properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+            properties.put("spring.flyway.enabled", "false");
+        }
+        if (!config.profiles.isBlank()) {
+            properties.put("spring.profiles.active", config.profiles);
+        }
+        // Tokens only live for this run; the dev profile's key is not active under other profiles
+        properties.put("taskhive.auth.token.keys.k1", UUID.randomUUID() + "-" + UUID.randomUUID());
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.taskhive", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.springframework.web", "WARN");
+        
+        // Command line arguments take precedence over the backend's application.properties;
+        // pass-through options come last so they can override the harness defaults
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        args.addAll(config.appArgs);
+        return new SpringApplicationBuilder(TaskhiveBackendApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .run(args.toArray(String[]::new));
+    }
+    
+    private static void printReport(Map<String, LatencyRecorder.Summary> results) {
+        System.out.printf("%n%-16s %10s %10s %8s %8s %10s %10s %10s %10s%n",
+            "operation", "requests", "req/s", "errors", "503s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((operation, s) -> System.out.printf("%-16s %10d %10.1f %8d %8d %10.2f %10.2f %10.2f %10.2f%n",
+            operation, s.requests(), s.throughput(), s.errors(), s.rejected(), s.p50Ms(), s.p99Ms(), s.p999Ms(), s.maxMs()));
+    }
+    
+    private static void writeReport(LoadTestConfig config, String database, Environment environment,
+                                    Map<String, LatencyRecorder.Summary> results) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("database", database);
+        report.put("profiles", config.profiles);
+        report.put("virtualThreads", environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+        report.put("companies", config.companies);
+        report.put("storiesPerCompany", config.storiesPerCompany);
+        report.put("concurrency", config.concurrency);
+        report.put("loginBurstThreads", config.loginBurstThreads);
+        report.put("durationSeconds", config.duration.toSeconds());
+        report.put("mix", config.mix);
+        report.put("operations", results);
+        
+        File file = new File(config.report);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("\nReport written to " + file.getPath());
+    }
+}
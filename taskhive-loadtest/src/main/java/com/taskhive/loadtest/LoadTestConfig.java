@@ -0,0 +1,106 @@
+package com.taskhive.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Harness options, parsed from --key=value arguments
+public class LoadTestConfig {
+    
+    // Data scale
+    int companies = 10;
+    int usersPerCompany = 50;
+    int teamsPerCompany = 5;
+    int sprintsPerCompany = 6;
+    int storiesPerCompany = 2000;
+    
+    // Load shape
+    int concurrency = 32;
+    int loginBurstThreads = 0;
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(30);
+    
+    // Relative weights of each call in the mix
+    Map<String, Integer> mix = new LinkedHashMap<>(Map.of(
+        Operation.LOGIN, 2,
+        Operation.CURRENT_SPRINT, 30,
+        Operation.STORIES, 25,
+        Operation.DASHBOARD, 25,
+        Operation.TEAM_EDIT, 3,
+        Operation.STORY_UPDATE, 15
+    ));
+    
+    // auto = local PostgreSQL when reachable, otherwise embedded H2
+    String database = "auto";
+    String postgresUrl = "jdbc:postgresql://localhost:5432/taskhive";
+    String postgresUser = "postgres";
+    String postgresPassword = "root";
+    
+    // Spring profiles for the app under test, e.g. virtual-threads
+    String profiles = "";
+    String report = "target/loadtest-report.json";
+    
+    // Dotted options (--spring.*, --taskhive.*, ...) are passed through to the app under test
+    List<String> appArgs = new ArrayList<>();
+    
+    static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (key.contains(".")) {
+                config.appArgs.add(arg);
+                continue;
+            }
+            switch (key) {
+                case "companies" -> config.companies = Integer.parseInt(value);
+                case "users-per-company" -> config.usersPerCompany = Integer.parseInt(value);
+                case "teams-per-company" -> config.teamsPerCompany = Integer.parseInt(value);
+                case "sprints-per-company" -> config.sprintsPerCompany = Integer.parseInt(value);
+                case "stories-per-company" -> config.storiesPerCompany = Integer.parseInt(value);
+                case "concurrency" -> config.concurrency = Integer.parseInt(value);
+                case "login-burst-threads" -> config.loginBurstThreads = Integer.parseInt(value);
+                case "warmup" -> config.warmup = parseDuration(value);
+                case "duration" -> config.duration = parseDuration(value);
+                case "mix" -> config.mix = parseMix(value);
+                case "database" -> config.database = value;
+                case "postgres-url" -> config.postgresUrl = value;
+                case "postgres-user" -> config.postgresUser = value;
+                case "postgres-password" -> config.postgresPassword = value;
+                case "profiles" -> config.profiles = value;
+                case "report" -> config.report = value;
+                default -> throw new IllegalArgumentException("Unknown option: --" + key);
+            }
+        }
+        return config;
+    }
+    
+    // "30s", "2m" or plain seconds
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+    
+    // "login:2,current-sprint:30,stories:25"; operations left out get weight 0
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            if (!Operation.ALL.contains(parts[0])) {
+                throw new IllegalArgumentException("Unknown operation in mix: " + parts[0]);
+            }
+            mix.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskhive.loadtest;
+
+import java.util.List;
+
+final class Operation {
+    
+    static final String LOGIN = "login";
+    static final String CURRENT_SPRINT = "current-sprint";
+    static final String STORIES = "stories";
+    static final String DASHBOARD = "dashboard";
+    static final String TEAM_EDIT = "team-edit";
+    static final String STORY_UPDATE = "story-update";
+    
+    static final List<String> ALL = List.of(LOGIN, CURRENT_SPRINT, STORIES, DASHBOARD, TEAM_EDIT, STORY_UPDATE);
+    
+    private Operation() {
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskhive.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Seeds N synthetic companies on top of the app's DataInitializer data (company 1 + admin).
+// Rows go in with JDBC batches so a large scale seeds in seconds; companies that already
+// exist (a reused PostgreSQL database) are left alone and only read back.
+public class SyntheticDataGenerator {
+    
+    static final String PASSWORD = "loadtest";
+    
+    private static final String[] STATUSES = {"Pending", "In Progress", "Completed", "Overdue"};
+    private static final String[] TYPES = {"Story", "Task", "Bug", "Epic"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final int BATCH_SIZE = 1000;
+    
+    private final JdbcTemplate jdbc;
+    private final PasswordEncoder passwordEncoder;
+    private final LoadTestConfig config;
+    private final Random random = new Random(42);
+    
+    public SyntheticDataGenerator(JdbcTemplate jdbc, PasswordEncoder passwordEncoder, LoadTestConfig config) {
+        this.jdbc = jdbc;
+        this.passwordEncoder = passwordEncoder;
+        this.config = config;
+    }
+    
+    public List<Tenant> generate() {
+        // One hash for every synthetic user; encoding per row would dominate seeding time
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<Tenant> tenants = new ArrayList<>(config.companies);
+        for (int c = 1; c <= config.companies; c++) {
+            String code = "LT" + c;
+            List<Long> existing = jdbc.queryForList("SELECT id FROM companies WHERE code = ?", Long.class, code);
+            Long companyId = existing.isEmpty() ? seedCompany(code, passwordHash) : existing.get(0);
+            tenants.add(loadTenant(companyId, code));
+        }
+        return tenants;
+    }
+    
+    private Long seedCompany(String code, String passwordHash) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.update("INSERT INTO companies (name, code, domain, subscription_plan, max_users, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    "Load Test " + code, code, code.toLowerCase() + ".load.local", "PREMIUM",
+                    config.usersPerCompany + 10, now, now);
+        Long companyId = jdbc.queryForObject("SELECT id FROM companies WHERE code = ?", Long.class, code);
+        
+        List<Object[]> teams = new ArrayList<>();
+        for (int t = 1; t <= config.teamsPerCompany; t++) {
+            teams.add(new Object[] {companyId, "Team " + t, "Synthetic team " + t, now, now});
+        }
+        jdbc.batchUpdate("INSERT INTO teams (company_id, name, description, created_at, updated_at) " +
+                         "VALUES (?, ?, ?, ?, ?)", teams);
+        List<Long> teamIds = jdbc.queryForList("SELECT id FROM teams WHERE company_id = ? ORDER BY id",
+            Long.class, companyId);
+        
+        List<Object[]> users = new ArrayList<>();
+        for (int u = 1; u <= config.usersPerCompany; u++) {
+            Long teamId = teamIds.isEmpty() ? null : teamIds.get(u % teamIds.size());
+            users.add(new Object[] {
+                companyId, code + "-" + u, "Member " + u, email(code, u), passwordHash,
+                "Engineer", "BE", teamId, u == 1 ? "ADMIN" : "USER", "ACTIVE", now, now
+            });
+        }
+        jdbc.batchUpdate("INSERT INTO users (company_id, employee_id, name, email, password, designation, job_role, " +
+                         "team_id, role, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                         users);
+        
+        List<Object[]> sprints = new ArrayList<>();
+        int sprintCount = config.sprintsPerCompany;
+        for (int s = 1; s <= sprintCount; s++) {
+            LocalDate start = LocalDate.now().minusDays(14L * (sprintCount - s) + 7);
+            sprints.add(new Object[] {
+                companyId, String.format("%s-SPR-%03d", code, s), "Sprint " + s,
+                Date.valueOf(start), Date.valueOf(start.plusDays(13)),
+                s == sprintCount ? "ACTIVE" : "COMPLETED", now, now
+            });
+        }
+        jdbc.batchUpdate("INSERT INTO sprints (company_id, sprint_id, name, start_date, end_date, status, " +
+                         "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", sprints);
+        List<Long> sprintIds = jdbc.queryForList("SELECT id FROM sprints WHERE company_id = ? ORDER BY id",
+            Long.class, companyId);
+        
+        List<Object[]> stories = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= config.storiesPerCompany; i++) {
+            // Roughly a third of the backlog sits in some sprint, weighted towards the active one
+            Long sprintId = null;
+            if (!sprintIds.isEmpty() && random.nextInt(3) == 0) {
+                sprintId = random.nextBoolean() ? sprintIds.get(sprintIds.size() - 1)
+                                                : sprintIds.get(random.nextInt(sprintIds.size()));
+            }
+            int assignee = 1 + random.nextInt(Math.max(config.usersPerCompany, 1));
+            stories.add(new Object[] {
+                companyId, String.format("%s-S%05d", code, i), "Synthetic story " + i,
+                "Description for synthetic story " + i + " with some representative length of text.",
+                TYPES[random.nextInt(TYPES.length)], PRIORITIES[random.nextInt(PRIORITIES.length)],
+                STATUSES[random.nextInt(STATUSES.length)], 1 + random.nextInt(13), random.nextInt(101),
+                Date.valueOf(LocalDate.now().plusDays(random.nextInt(60) - 30)), sprintId,
+                "Member " + assignee, now, now
+            });
+            if (stories.size() == BATCH_SIZE) {
+                insertStories(stories);
+                stories.clear();
+            }
+        }
+        if (!stories.isEmpty()) {
+            insertStories(stories);
+        }
+        return companyId;
+    }
+    
+    private void insertStories(List<Object[]> rows) {
+        jdbc.batchUpdate("INSERT INTO stories (company_id, story_id, title, description, type, priority, status, " +
+                         "story_points, progress, deadline, sprint_id, assignee_name, created_at, updated_at) " +
+                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+    
+    private Tenant loadTenant(Long companyId, String code) {
+        List<String> emails = jdbc.queryForList(
+            "SELECT email FROM users WHERE company_id = ? AND email LIKE ? ORDER BY id",
+            String.class, companyId, "%@" + code.toLowerCase() + ".load.local");
+        List<String> memberNames = jdbc.queryForList("SELECT name FROM users WHERE company_id = ? ORDER BY id",
+            String.class, companyId);
+        List<Long> teamIds = jdbc.queryForList("SELECT id FROM teams WHERE company_id = ? ORDER BY id",
+            Long.class, companyId);
+        List<Long> storyIds = jdbc.queryForList("SELECT id FROM stories WHERE company_id = ? ORDER BY id",
+            Long.class, companyId);
+        return new Tenant(companyId, emails, memberNames, teamIds,
+            storyIds.stream().mapToLong(Long::longValue).toArray());
+    }
+    
+    private static String email(String code, int user) {
+        return "user" + user + "@" + code.toLowerCase() + ".load.local";
+    }
+    
+    // What the workload needs to know about one seeded company
+    public record Tenant(Long companyId, List<String> emails, List<String> memberNames,
+                         List<Long> teamIds, long[] storyIds) {
+    }
+}
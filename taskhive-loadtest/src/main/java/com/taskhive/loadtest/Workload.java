@@ -0,0 +1,149 @@
+package com.taskhive.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Issues the API calls in the mix against one running app. Each virtual user is bound to a
+// tenant and reuses its bearer token; the login operation itself is measured separately.
+public class Workload {
+    
+    private static final String[] STATUSES = {"Pending", "In Progress", "Completed"};
+    
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final String[] weightedOperations;
+    
+    public Workload(String baseUrl, Map<String, Integer> mix, LatencyRecorder recorder) {
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.objectMapper = new ObjectMapper();
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        
+        List<String> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("The operation mix has no positive weights");
+        }
+        this.weightedOperations = weighted.toArray(String[]::new);
+    }
+    
+    public String nextOperation() {
+        return weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+    }
+    
+    // Unmeasured login used to obtain a worker's token before the run starts
+    public String token(String email) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(loginRequest(email));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + email + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).path("token").asText();
+    }
+    
+    public void execute(String operation, SyntheticDataGenerator.Tenant tenant, String email, String token) {
+        HttpRequest request;
+        try {
+            request = switch (operation) {
+                case Operation.LOGIN -> loginRequest(email);
+                case Operation.CURRENT_SPRINT -> get("/api/sprints/current?companyId=" + tenant.companyId(), token);
+                case Operation.STORIES -> get("/api/stories?companyId=" + tenant.companyId() + "&limit=100", token);
+                case Operation.DASHBOARD -> get("/api/analytics/dashboard?companyId=" + tenant.companyId(), token);
+                case Operation.TEAM_EDIT -> teamEditRequest(tenant, token);
+                case Operation.STORY_UPDATE -> storyUpdateRequest(tenant, token);
+                default -> throw new IllegalArgumentException("Unknown operation: " + operation);
+            };
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        if (request == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = send(request).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        recorder.record(operation, System.nanoTime() - start, status);
+    }
+    
+    private HttpRequest loginRequest(String email) throws IOException {
+        return json("/api/auth/login", null, "POST", Map.of("username", email, "password", SyntheticDataGenerator.PASSWORD));
+    }
+    
+    // Replace a team's roster with a random slice of the company's members
+    private HttpRequest teamEditRequest(SyntheticDataGenerator.Tenant tenant, String token) throws IOException {
+        if (tenant.teamIds().isEmpty() || tenant.memberNames().isEmpty()) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long teamId = tenant.teamIds().get(random.nextInt(tenant.teamIds().size()));
+        List<String> names = tenant.memberNames();
+        int size = Math.min(names.size(), 1 + random.nextInt(10));
+        int from = random.nextInt(names.size() - size + 1);
+        return json("/api/teams/" + teamId + "/members", token, "PUT",
+            Map.of("members", names.subList(from, from + size)));
+    }
+    
+    private HttpRequest storyUpdateRequest(SyntheticDataGenerator.Tenant tenant, String token) throws IOException {
+        if (tenant.storyIds().length == 0) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = tenant.storyIds()[random.nextInt(tenant.storyIds().length)];
+        return json("/api/stories/" + id, token, "PUT", Map.of(
+            "title", "Updated story " + id,
+            "description", "Updated by the load harness",
+            "priority", "MEDIUM",
+            "status", STATUSES[random.nextInt(STATUSES.length)],
+            "storyPoints", 1 + random.nextInt(13),
+            "progress", random.nextInt(101)
+        ));
+    }
+    
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+    }
+    
+    private HttpRequest json(String path, String token, String method, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+    
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}